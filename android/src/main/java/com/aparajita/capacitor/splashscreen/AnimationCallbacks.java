@@ -5,8 +5,17 @@ import android.animation.TimeInterpolator;
 public interface AnimationCallbacks {
   void done();
 
+  // Called instead of done() when the plugin knows how the transition
+  // actually ended, for example when it was coalesced with another call.
+  default void done(SplashScreen.Outcome outcome) {
+    done();
+  }
+
   void error(String message, SplashScreen.ErrorType code);
 
+  // Called when the plugin accepts the call, with the session it acts on
+  default void setSession(SplashSession session) {}
+
   void showStatusBar(long delay, long duration, TimeInterpolator interpolator);
 
   void showNavigationBar(
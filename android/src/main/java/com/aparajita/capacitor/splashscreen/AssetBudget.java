@@ -0,0 +1,197 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Tracks the estimated memory used by every splash asset the plugin caches
+// (drawables, decoded bitmaps, prebuilt views) and keeps it under a cap.
+//
+// When an asset would push the total over the cap, the least recently used
+// assets are released first. The budget also listens for onTrimMemory() and
+// gives memory back to the system in stages as the pressure increases.
+//
+// Assets are released by calling their Releaser outside the lock,
+// so a releaser is free to touch the plugin's own caches.
+public class AssetBudget implements ComponentCallbacks2 {
+
+  public interface Releaser {
+    void release();
+  }
+
+  private static class Entry {
+
+    final long bytes;
+    final Releaser releaser;
+
+    Entry(long bytes, Releaser releaser) {
+      this.bytes = bytes;
+      this.releaser = releaser;
+    }
+  }
+
+  // Access order, so iteration starts with the least recently used asset
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(
+    16,
+    0.75f,
+    true
+  );
+  private final long capBytes;
+  private long usedBytes = 0;
+  private long peakBytes = 0;
+  private int evictions = 0;
+  private int trims = 0;
+  private int lastTrimLevel = 0;
+
+  public AssetBudget(long capBytes) {
+    this.capBytes = capBytes;
+  }
+
+  /**
+   * Add an asset to the budget, evicting older assets if necessary.
+   * Returns false if the asset alone is larger than the cap,
+   * in which case it should not be cached.
+   */
+  public boolean put(
+    @NonNull String key,
+    long bytes,
+    @NonNull Releaser releaser
+  ) {
+    if (bytes > capBytes) {
+      return false;
+    }
+
+    List<Releaser> released = new ArrayList<>();
+
+    synchronized (this) {
+      Entry previous = entries.remove(key);
+
+      if (previous != null) {
+        usedBytes -= previous.bytes;
+      }
+
+      entries.put(key, new Entry(bytes, releaser));
+      usedBytes += bytes;
+      trimTo(capBytes, key, released);
+      peakBytes = Math.max(peakBytes, usedBytes);
+    }
+
+    releaseAll(released);
+    return true;
+  }
+
+  // Mark an asset as recently used. Returns false if it is no longer in the budget.
+  public synchronized boolean touch(@NonNull String key) {
+    return entries.get(key) != null;
+  }
+
+  // Forget an asset the owner has already released
+  public synchronized void remove(@NonNull String key) {
+    Entry entry = entries.remove(key);
+
+    if (entry != null) {
+      usedBytes -= entry.bytes;
+    }
+  }
+
+  // Release everything, e.g. when the plugin is destroyed
+  public void releaseAll() {
+    List<Releaser> released = new ArrayList<>();
+
+    synchronized (this) {
+      trimTo(0, null, released);
+    }
+
+    releaseAll(released);
+  }
+
+  public synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  public synchronized int getEvictions() {
+    return evictions;
+  }
+
+  @NonNull
+  public synchronized JSObject toJSObject() {
+    JSObject result = new JSObject();
+    result.put("capBytes", capBytes);
+    result.put("usedBytes", usedBytes);
+    result.put("peakBytes", peakBytes);
+    result.put("assets", entries.size());
+    result.put("evictions", evictions);
+    result.put("trims", trims);
+    result.put("lastTrimLevel", lastTrimLevel);
+    return result;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    long target;
+
+    if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+      // We are near the head of the kill list or the system is desperate, let everything go
+      target = 0;
+    } else if (
+      level >= TRIM_MEMORY_UI_HIDDEN || level == TRIM_MEMORY_RUNNING_LOW
+    ) {
+      // Nothing is visible or memory is getting low, keep only the most recent half
+      target = capBytes / 2;
+    } else if (level == TRIM_MEMORY_RUNNING_MODERATE) {
+      target = capBytes * 3 / 4;
+    } else {
+      return;
+    }
+
+    List<Releaser> released = new ArrayList<>();
+
+    synchronized (this) {
+      trims++;
+      lastTrimLevel = level;
+      trimTo(target, null, released);
+    }
+
+    releaseAll(released);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  // Must be called with the lock held. The asset named by keep is never evicted.
+  private void trimTo(long target, String keep, List<Releaser> released) {
+    Iterator<Map.Entry<String, Entry>> iterator = entries
+      .entrySet()
+      .iterator();
+
+    while (usedBytes > target && iterator.hasNext()) {
+      Map.Entry<String, Entry> next = iterator.next();
+
+      if (next.getKey().equals(keep)) {
+        continue;
+      }
+
+      iterator.remove();
+      usedBytes -= next.getValue().bytes;
+      evictions++;
+      released.add(next.getValue().releaser);
+    }
+  }
+
+  private void releaseAll(List<Releaser> released) {
+    for (Releaser releaser : released) {
+      releaser.release();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.graphics.Rect;
+import android.graphics.drawable.ColorDrawable;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewOverlay;
+import android.view.Window;
+import android.view.WindowInsets;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+// Changes a system bar's color without updating the window on every frame.
+//
+// Setting a bar color is a window attribute update that goes through the
+// window manager, so animating it frame by frame is expensive. Instead, the
+// bar is set to its final color once, when the animation starts, and
+// a scrim in the starting color is drawn over the bar's area. Fading the
+// scrim out is an ordinary drawable alpha animation, and when it ends the
+// scrim is removed.
+//
+// The bars are not made transparent for the duration: the app's window
+// would then show its content under them until the final color is set.
+// Setting the final color up front costs the same single window update.
+//
+// The scrim has to be above whatever is drawn over the bar. The splash is
+// in its own window above the activity's, so when it extends under the bar
+// the scrim goes in the splash view's overlay. Otherwise the activity's
+// bar area is what shows, and the scrim goes in the decor view's overlay.
+@RequiresApi(Build.VERSION_CODES.M)
+public class BarScrims {
+
+  public enum Bar {
+    STATUS,
+    NAVIGATION
+  }
+
+  // The decor must have been laid out with its insets for the scrim to be placed
+  public static boolean canScrim(@NonNull Window window) {
+    View decor = window.getDecorView();
+    return decor.isAttachedToWindow() && decor.getRootWindowInsets() != null;
+  }
+
+  // splash is the programmatic splash view, if it is in its window
+  @NonNull
+  public static ValueAnimator animate(
+    @NonNull Window window,
+    @Nullable View splash,
+    @NonNull Bar bar,
+    int fromColor,
+    int toColor,
+    long delay,
+    long duration,
+    @Nullable TimeInterpolator interpolator
+  ) {
+    View decor = window.getDecorView();
+    ColorDrawable scrim = new ColorDrawable(fromColor);
+    ValueAnimator animation = ValueAnimator.ofInt(255, 0);
+
+    animation.setInterpolator(interpolator);
+    animation.setStartDelay(delay);
+    animation.setDuration(duration);
+    animation.addUpdateListener(animator ->
+      scrim.setAlpha((int) animator.getAnimatedValue())
+    );
+    animation.addListener(
+      new AnimatorListenerAdapter() {
+        private ViewOverlay overlay;
+
+        @Override
+        public void onAnimationStart(Animator animator) {
+          Rect bounds = getBarBounds(decor, bar);
+          overlay = getHost(decor, splash, bounds).getOverlay();
+          scrim.setBounds(bounds);
+          overlay.add(scrim);
+
+          // The only window update: the scrim covers it until it fades
+          setBarColor(window, bar, toColor);
+        }
+
+        @Override
+        public void onAnimationEnd(Animator animator) {
+          overlay.remove(scrim);
+        }
+      }
+    );
+    animation.start();
+    return animation;
+  }
+
+  private static void setBarColor(
+    @NonNull Window window,
+    @NonNull Bar bar,
+    int color
+  ) {
+    if (bar == Bar.STATUS) {
+      window.setStatusBarColor(color);
+    } else {
+      window.setNavigationBarColor(color);
+    }
+  }
+
+  // The view whose overlay is drawn on top of the bar. If it is the splash,
+  // bounds are moved from decor to splash coordinates.
+  @NonNull
+  private static View getHost(
+    @NonNull View decor,
+    @Nullable View splash,
+    @NonNull Rect bounds
+  ) {
+    if (splash == null || !splash.isAttachedToWindow()) {
+      return decor;
+    }
+
+    int[] decorOrigin = new int[2];
+    int[] splashOrigin = new int[2];
+    decor.getLocationOnScreen(decorOrigin);
+    splash.getLocationOnScreen(splashOrigin);
+
+    Rect inSplash = new Rect(bounds);
+    inSplash.offset(
+      decorOrigin[0] - splashOrigin[0],
+      decorOrigin[1] - splashOrigin[1]
+    );
+
+    Rect splashBounds = new Rect(0, 0, splash.getWidth(), splash.getHeight());
+
+    if (!splashBounds.contains(inSplash)) {
+      return decor;
+    }
+
+    bounds.set(inSplash);
+    return splash;
+  }
+
+  // The status bar is along the top. The navigation bar is along the bottom,
+  // or along a side in landscape.
+  @NonNull
+  private static Rect getBarBounds(@NonNull View decor, @NonNull Bar bar) {
+    WindowInsets insets = decor.getRootWindowInsets();
+    int width = decor.getWidth();
+    int height = decor.getHeight();
+
+    if (insets == null) {
+      return new Rect();
+    }
+
+    if (bar == Bar.STATUS) {
+      return new Rect(0, 0, width, insets.getSystemWindowInsetTop());
+    }
+
+    if (insets.getSystemWindowInsetBottom() > 0) {
+      return new Rect(
+        0,
+        height - insets.getSystemWindowInsetBottom(),
+        width,
+        height
+      );
+    }
+
+    if (insets.getSystemWindowInsetRight() > 0) {
+      return new Rect(
+        width - insets.getSystemWindowInsetRight(),
+        0,
+        width,
+        height
+      );
+    }
+
+    return new Rect(0, 0, insets.getSystemWindowInsetLeft(), height);
+  }
+}
@@ -13,7 +13,11 @@ public class Config {
   private final PluginConfig config;
 
   public Config(Plugin plugin) {
-    this.config = plugin.getConfig();
+    this(plugin.getConfig());
+  }
+
+  public Config(PluginConfig config) {
+    this.config = config;
   }
 
   /*
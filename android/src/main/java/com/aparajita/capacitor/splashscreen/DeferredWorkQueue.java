@@ -0,0 +1,181 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+
+// Work that should not compete with the splash for the main thread.
+//
+// Tasks are held while a splash is on screen. Once the splash has been fully
+// removed, they are run on the main thread when it is idle, highest priority
+// first, in slices of at most SLICE_MS so that input and drawing are never
+// blocked for long.
+public class DeferredWorkQueue {
+
+  static final long SLICE_MS = 8;
+  private static final int HISTORY_SIZE = 64;
+
+  // Told about a task that threw, on the main thread
+  public interface FailureListener {
+    void failed(@NonNull String name, @NonNull RuntimeException e);
+  }
+
+  private static class Task implements Comparable<Task> {
+
+    final String name;
+    final int priority;
+    final long sequence;
+    final long queuedAt;
+    final Runnable runnable;
+
+    Task(String name, int priority, long sequence, Runnable runnable) {
+      this.name = name;
+      this.priority = priority;
+      this.sequence = sequence;
+      this.queuedAt = SystemClock.uptimeMillis();
+      this.runnable = runnable;
+    }
+
+    @Override
+    public int compareTo(Task other) {
+      // Higher priority first, then first come first served
+      if (priority != other.priority) {
+        return Integer.compare(other.priority, priority);
+      }
+
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+
+  private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+  private final ArrayDeque<JSObject> history = new ArrayDeque<>();
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final MessageQueue.IdleHandler idleHandler = this::runSlice;
+  private long sequence = 0;
+  private boolean held = true;
+  private boolean scheduled = false;
+  private long releasedAt = -1;
+  private volatile FailureListener failureListener;
+
+  public void setFailureListener(FailureListener listener) {
+    failureListener = listener;
+  }
+
+  public synchronized void submit(
+    @NonNull String name,
+    int priority,
+    @NonNull Runnable runnable
+  ) {
+    tasks.add(new Task(name, priority, sequence++, runnable));
+
+    if (!held) {
+      schedule();
+    }
+  }
+
+  // A splash is on screen, hold everything until it is gone
+  public synchronized void hold() {
+    held = true;
+  }
+
+  // The splash has been removed, start draining
+  public synchronized void release() {
+    held = false;
+    releasedAt = SystemClock.uptimeMillis();
+
+    if (!tasks.isEmpty()) {
+      schedule();
+    }
+  }
+
+  @NonNull
+  public synchronized JSObject toJSObject() {
+    JSObject result = new JSObject();
+    JSArray completed = new JSArray();
+
+    for (JSObject info : history) {
+      completed.put(info);
+    }
+
+    result.put("held", held);
+    result.put("pending", tasks.size());
+    result.put("completed", completed);
+    return result;
+  }
+
+  // Must be called with the lock held
+  private void schedule() {
+    if (scheduled) {
+      return;
+    }
+
+    scheduled = true;
+
+    // Looper.myQueue() must be called on the main thread
+    handler.post(() -> Looper.myQueue().addIdleHandler(idleHandler));
+  }
+
+  private boolean runSlice() {
+    long deadline = SystemClock.uptimeMillis() + SLICE_MS;
+
+    do {
+      Task task;
+
+      synchronized (this) {
+        if (held || tasks.isEmpty()) {
+          scheduled = false;
+          return false;
+        }
+
+        task = tasks.poll();
+      }
+
+      long start = SystemClock.uptimeMillis();
+      boolean failed = false;
+
+      try {
+        task.runnable.run();
+      } catch (RuntimeException e) {
+        failed = true;
+        FailureListener listener = failureListener;
+
+        if (listener != null) {
+          listener.failed(task.name, e);
+        }
+      }
+
+      record(task, start, SystemClock.uptimeMillis(), failed);
+    } while (SystemClock.uptimeMillis() < deadline);
+
+    // The slice is used up. Idle handlers are only called when the queue
+    // goes idle again, so post an empty message to make sure that happens.
+    handler.post(() -> {});
+    return true;
+  }
+
+  private synchronized void record(
+    Task task,
+    long start,
+    long end,
+    boolean failed
+  ) {
+    JSObject info = new JSObject();
+    info.put("name", task.name);
+    info.put("priority", task.priority);
+    info.put("waitMs", start - task.queuedAt);
+    info.put("afterSplashMs", start - releasedAt);
+    info.put("durationMs", end - start);
+    info.put("failed", failed);
+    history.addLast(info);
+
+    if (history.size() > HISTORY_SIZE) {
+      history.removeFirst();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.animation.ValueAnimator;
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.os.PowerManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSObject;
+
+// Classifies the device once at load() and selects the DeviceProfile to use.
+// The selection can be overridden with the "profile" config option.
+public class DeviceClass {
+
+  public final boolean isLowRam;
+  public final boolean isPowerSave;
+  public final boolean animatorsEnabled;
+  public final int performanceClass;
+  public final DeviceProfile detected;
+  public final DeviceProfile profile;
+
+  public DeviceClass(@NonNull Context context, @Nullable String override) {
+    ActivityManager activityManager = (ActivityManager) context.getSystemService(
+      Context.ACTIVITY_SERVICE
+    );
+    PowerManager powerManager = (PowerManager) context.getSystemService(
+      Context.POWER_SERVICE
+    );
+
+    isLowRam = activityManager != null && activityManager.isLowRamDevice();
+    isPowerSave = powerManager != null && powerManager.isPowerSaveMode();
+    animatorsEnabled =
+      Build.VERSION.SDK_INT < Build.VERSION_CODES.O ||
+      ValueAnimator.areAnimatorsEnabled();
+    performanceClass =
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.S
+        ? Build.VERSION.MEDIA_PERFORMANCE_CLASS
+        : 0;
+
+    detected = detect();
+    DeviceProfile overridden = DeviceProfile.fromCode(override);
+    profile = overridden != null ? overridden : detected;
+  }
+
+  private DeviceProfile detect() {
+    // Animator duration scale 0 means any fade we run is wasted work
+    if (!animatorsEnabled) {
+      return DeviceProfile.INSTANT;
+    }
+
+    if (isPowerSave) {
+      return DeviceProfile.MINIMAL;
+    }
+
+    // A declared performance class means the device is capable, whatever its RAM
+    if (isLowRam && performanceClass == 0) {
+      return DeviceProfile.REDUCED;
+    }
+
+    return DeviceProfile.FULL;
+  }
+
+  @NonNull
+  public JSObject toJSObject() {
+    JSObject result = new JSObject();
+    result.put("profile", profile.getCode());
+    result.put("detected", detected.getCode());
+    result.put("isLowRam", isLowRam);
+    result.put("isPowerSave", isPowerSave);
+    result.put("animatorsEnabled", animatorsEnabled);
+    result.put("performanceClass", performanceClass);
+    return result;
+  }
+}
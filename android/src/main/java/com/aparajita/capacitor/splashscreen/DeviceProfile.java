@@ -0,0 +1,51 @@
+package com.aparajita.capacitor.splashscreen;
+
+import androidx.annotation.Nullable;
+
+// How much animation work the splash does on a given class of device.
+public enum DeviceProfile {
+  // Fades as configured, drawn through a hardware layer
+  FULL("full", 1f, true, false),
+  // Low-RAM devices: half-length fades, no hardware layer
+  REDUCED("reduced", 0.5f, false, false),
+  // Battery saver: no fades, hooks still run
+  MINIMAL("minimal", 0f, false, false),
+  // Animations are disabled: no fades, and the launch screen is removed immediately
+  INSTANT("instant", 0f, false, true);
+
+  private final String code;
+  private final float durationScale;
+  public final boolean useHardwareLayer;
+  public final boolean removeLaunchImmediately;
+
+  DeviceProfile(
+    String code,
+    float durationScale,
+    boolean useHardwareLayer,
+    boolean removeLaunchImmediately
+  ) {
+    this.code = code;
+    this.durationScale = durationScale;
+    this.useHardwareLayer = useHardwareLayer;
+    this.removeLaunchImmediately = removeLaunchImmediately;
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  public int scaleDuration(int duration) {
+    return Math.round(duration * durationScale);
+  }
+
+  @Nullable
+  public static DeviceProfile fromCode(@Nullable String code) {
+    for (DeviceProfile profile : values()) {
+      if (profile.code.equals(code)) {
+        return profile;
+      }
+    }
+
+    return null;
+  }
+}
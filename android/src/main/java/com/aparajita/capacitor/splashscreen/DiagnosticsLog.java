@@ -0,0 +1,164 @@
+package com.aparajita.capacitor.splashscreen;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import java.util.Locale;
+
+// A fixed-size, in-memory ring buffer of structured diagnostic records.
+//
+// Records are stored as primitives in parallel arrays: an event, a timestamp,
+// up to three long arguments and one object reference (which should be
+// something that already exists, like an enum or the source name).
+// Nothing is formatted until the log is dumped, and when the log is
+// disabled record() returns before doing any work at all.
+public class DiagnosticsLog {
+
+  public enum Event {
+    SHOW("show(): source = %s, delay = %d, fadeInDuration = %d, showDuration = %d"),
+    HIDE("hide(): delay = %d, fadeOutDuration = %d"),
+    ANIMATE("animate(): state = %s"),
+    HOOK_PREPARED("%s hook prepared in %d ms"),
+    PREPARE_TIMEOUT("%s hook prepare still running after %d ms, hook called without it"),
+    SHOW_DONE("show() finished: %s"),
+    HIDE_DONE("hide() finished: %s"),
+    REJECTED("call rejected in state %s"),
+    STALE_SESSION("call rejected for stale session %d"),
+    LAUNCH_EXIT("launch screen exit: %s"),
+    ICON_WAIT("launch screen exit waiting %d ms for the icon animation to end"),
+    HANDOFF("launch screen handed off to programmatic splash"),
+    HANDOFF_FAILED("launch screen handoff failed, exiting normally (%s start)"),
+    AUTO_HIDE("show(): auto-hiding after %d ms"),
+    FORCED_HIDE("maxShowDuration exceeded in state %s after %d ms, splash removed"),
+    GATES_RELEASED("all readiness gates satisfied, launch screen released (%s start)"),
+    AUTO_HIDDEN("launch screen auto-hidden (%s start)"),
+    START_TYPE("%s start: showDuration = %d, processAgeMs = %d"),
+    ICON_INFLATED("icon %s inflated, estimated bytes = %d"),
+    ICON_REUSED("icon %s reused from cache"),
+    IMAGE_DECODED("image %s decoded in %d ms, estimated peak bytes = %d, animated = %d"),
+    DISPLAY_MODE("%d Hz display mode will be requested during transitions"),
+    BOOST_ENDED("transition priority boost ended after %d ms"),
+    DRAWABLE_NOT_FOUND("No drawable named \"%s\" found"),
+    ERROR("%s");
+
+    private final String format;
+
+    Event(String format) {
+      this.format = format;
+    }
+  }
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final boolean enabled;
+  private final int capacity;
+  private final Event[] events;
+  private final long[] times;
+  private final Object[] refs;
+  private final long[] args0;
+  private final long[] args1;
+  private final long[] args2;
+
+  // Total number of records ever written, the next slot is count % capacity
+  private long count = 0;
+
+  public DiagnosticsLog(boolean enabled, int capacity) {
+    this.enabled = enabled;
+    this.capacity = enabled ? capacity : 0;
+    events = new Event[this.capacity];
+    times = new long[this.capacity];
+    refs = new Object[this.capacity];
+    args0 = new long[this.capacity];
+    args1 = new long[this.capacity];
+    args2 = new long[this.capacity];
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void record(Event event, Object ref) {
+    record(event, ref, 0, 0, 0);
+  }
+
+  public void record(Event event, Object ref, long arg0) {
+    record(event, ref, arg0, 0, 0);
+  }
+
+  public void record(Event event, long arg0, long arg1) {
+    record(event, null, arg0, arg1, 0);
+  }
+
+  public void record(
+    Event event,
+    Object ref,
+    long arg0,
+    long arg1,
+    long arg2
+  ) {
+    if (!enabled) {
+      return;
+    }
+
+    long time = System.currentTimeMillis();
+
+    synchronized (this) {
+      int slot = (int) (count % capacity);
+      events[slot] = event;
+      times[slot] = time;
+      refs[slot] = ref;
+      args0[slot] = arg0;
+      args1[slot] = arg1;
+      args2[slot] = arg2;
+      count++;
+    }
+  }
+
+  // This is where the formatting happens, only when someone asks for the log
+  @NonNull
+  public synchronized JSObject dump() {
+    JSArray records = new JSArray();
+    long first = Math.max(0, count - capacity);
+
+    for (long i = first; i < count; i++) {
+      int slot = (int) (i % capacity);
+      JSObject record = new JSObject();
+      record.put("time", times[slot]);
+      record.put("event", events[slot].name());
+      record.put("message", format(slot));
+      records.put(record);
+    }
+
+    JSObject result = new JSObject();
+    result.put("enabled", enabled);
+    result.put("records", records);
+    result.put("dropped", first);
+    return result;
+  }
+
+  private String format(int slot) {
+    Event event = events[slot];
+    Object ref = refs[slot];
+
+    // Only pass as many arguments as the format uses,
+    // the ref always comes first if the format has a %s.
+    if (event.format.contains("%s")) {
+      return String.format(
+        Locale.ROOT,
+        event.format,
+        String.valueOf(ref),
+        args0[slot],
+        args1[slot],
+        args2[slot]
+      );
+    }
+
+    return String.format(
+      Locale.ROOT,
+      event.format,
+      args0[slot],
+      args1[slot],
+      args2[slot]
+    );
+  }
+}
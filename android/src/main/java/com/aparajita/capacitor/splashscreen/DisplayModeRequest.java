@@ -0,0 +1,120 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Build;
+import android.view.Display;
+import android.view.View;
+import android.view.Window;
+import android.view.WindowManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+// Asks for the display's highest refresh rate while a splash animates.
+//
+// During startup the system often holds a 90/120 Hz display at 60 Hz.
+// A window can ask for a display mode through preferredDisplayModeId,
+// so while a transition runs, the activity window and the programmatic
+// splash window both ask for the fastest mode at the current resolution.
+// Once the transition ends the request is withdrawn and the system is free
+// to drop the rate again, so an idle splash does not keep the display fast.
+//
+// Everything here runs on the main thread.
+@RequiresApi(Build.VERSION_CODES.M)
+public class DisplayModeRequest {
+
+  // 0 means there is no faster mode than the current one
+  private final int modeId;
+  private final float refreshRate;
+
+  private boolean active = false;
+  private int savedActivityModeId = 0;
+
+  public DisplayModeRequest(@Nullable Display display) {
+    Display.Mode best = display != null ? findFastestMode(display) : null;
+    modeId = best != null ? best.getModeId() : 0;
+    refreshRate = best != null ? best.getRefreshRate() : 0f;
+  }
+
+  // The mode with the highest refresh rate at the current resolution,
+  // null if that is already the current mode.
+  @Nullable
+  private static Display.Mode findFastestMode(@NonNull Display display) {
+    Display.Mode current = display.getMode();
+    Display.Mode best = current;
+
+    for (Display.Mode mode : display.getSupportedModes()) {
+      if (
+        mode.getPhysicalWidth() == current.getPhysicalWidth() &&
+        mode.getPhysicalHeight() == current.getPhysicalHeight() &&
+        mode.getRefreshRate() > best.getRefreshRate()
+      ) {
+        best = mode;
+      }
+    }
+
+    return best == current ? null : best;
+  }
+
+  public boolean isAvailable() {
+    return modeId != 0;
+  }
+
+  public float getRefreshRate() {
+    return refreshRate;
+  }
+
+  // splashParams is null if there is no programmatic splash window
+  public void request(
+    @NonNull Window activityWindow,
+    @NonNull WindowManager windowManager,
+    @Nullable View splashView,
+    @Nullable WindowManager.LayoutParams splashParams
+  ) {
+    if (modeId == 0 || active) {
+      return;
+    }
+
+    active = true;
+    WindowManager.LayoutParams attrs = activityWindow.getAttributes();
+    savedActivityModeId = attrs.preferredDisplayModeId;
+    attrs.preferredDisplayModeId = modeId;
+    activityWindow.setAttributes(attrs);
+    updateSplashWindow(windowManager, splashView, splashParams, modeId);
+  }
+
+  public void release(
+    @NonNull Window activityWindow,
+    @NonNull WindowManager windowManager,
+    @Nullable View splashView,
+    @Nullable WindowManager.LayoutParams splashParams
+  ) {
+    if (!active) {
+      return;
+    }
+
+    active = false;
+    WindowManager.LayoutParams attrs = activityWindow.getAttributes();
+    attrs.preferredDisplayModeId = savedActivityModeId;
+    activityWindow.setAttributes(attrs);
+    updateSplashWindow(windowManager, splashView, splashParams, 0);
+  }
+
+  private static void updateSplashWindow(
+    @NonNull WindowManager windowManager,
+    @Nullable View splashView,
+    @Nullable WindowManager.LayoutParams splashParams,
+    int modeId
+  ) {
+    if (
+      splashView == null ||
+      splashParams == null ||
+      splashView.getParent() == null ||
+      splashParams.preferredDisplayModeId == modeId
+    ) {
+      return;
+    }
+
+    splashParams.preferredDisplayModeId = modeId;
+    windowManager.updateViewLayout(splashView, splashParams);
+  }
+}
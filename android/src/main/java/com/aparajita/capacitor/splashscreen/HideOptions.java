@@ -8,6 +8,7 @@ public class HideOptions {
 
   public int delay;
   public int fadeOutDuration;
+  public SplashTransition.Style transition;
 
   public HideOptions(@NonNull JSObject options, @NonNull Config config) {
     delay =
@@ -22,16 +23,21 @@ public class HideOptions {
           Options.DEFAULT_FADE_OUT_DURATION
         )
       );
+    transition =
+      SplashTransition.Style.fromCode(
+        config.getStringOption(Options.TRANSITION, options)
+      );
   }
 
   @NonNull
   @Override
   public String toString() {
     return String.format(
-      Locale.getDefault(),
-      "HideOptions { delay = %d, fadeOutDuration = %d }",
+      Locale.ROOT,
+      "HideOptions { delay = %d, fadeOutDuration = %d, transition = %s }",
       delay,
-      fadeOutDuration
+      fadeOutDuration,
+      transition.getCode()
     );
   }
 }
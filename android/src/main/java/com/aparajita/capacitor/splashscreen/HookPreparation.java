@@ -0,0 +1,150 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The prepare phase of a hook: a call to the app's onSplashScreenPrepare()
+// on a background thread, made as soon as animate() is received, so that
+// the hook's setup work is done by the time the animation should start.
+// Whatever it returns is passed to onSplashScreenEvent() as "prepared".
+public class HookPreparation {
+
+  // How long a due animation waits for a prepare phase that is still running
+  static final long TIMEOUT_MS = 1000;
+
+  private static ExecutorService executor;
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  private final long startedAt = SystemClock.uptimeMillis();
+
+  // These are guarded by this
+  private boolean done = false;
+  private Object result;
+  private Throwable error;
+  private long prepareMs = -1;
+  private Runnable onDone;
+  private Runnable timeout;
+  private boolean timedOut = false;
+
+  private HookPreparation() {}
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      // The animation is waiting on this, so it runs at normal priority
+      executor =
+        Executors.newSingleThreadExecutor(runnable ->
+          new Thread(
+            () -> {
+              Process.setThreadPriority(Process.THREAD_PRIORITY_DEFAULT);
+              runnable.run();
+            },
+            "SplashHookPrepare"
+          )
+        );
+    }
+
+    return executor;
+  }
+
+  @NonNull
+  static HookPreparation start(
+    @NonNull Method handler,
+    @NonNull Object target,
+    @NonNull SplashScreen.HookEventType eventType,
+    @NonNull HashMap<String, Object> params
+  ) {
+    HookPreparation preparation = new HookPreparation();
+
+    getExecutor()
+      .execute(() -> {
+        Object result = null;
+        Throwable error = null;
+
+        try {
+          result = handler.invoke(target, eventType, params);
+        } catch (InvocationTargetException e) {
+          error = e.getCause() != null ? e.getCause() : e;
+        } catch (IllegalAccessException | RuntimeException e) {
+          error = e;
+        }
+
+        preparation.finish(result, error);
+      });
+
+    return preparation;
+  }
+
+  private void finish(Object result, Throwable error) {
+    Runnable callback;
+
+    synchronized (this) {
+      this.result = result;
+      this.error = error;
+      prepareMs = SystemClock.uptimeMillis() - startedAt;
+      done = true;
+      callback = onDone;
+      onDone = null;
+    }
+
+    if (callback != null) {
+      mainHandler.removeCallbacks(timeout);
+      mainHandler.post(callback);
+    }
+  }
+
+  // Run the callback on the main thread once the prepare phase is done.
+  // If it already is, the callback is run right away: the caller is on the main thread.
+  // If it is not done within TIMEOUT_MS, the callback is run without it
+  // and isTimedOut() is true.
+  void whenDone(@NonNull Runnable callback) {
+    synchronized (this) {
+      if (!done) {
+        onDone = callback;
+        timeout =
+          () -> {
+            synchronized (this) {
+              if (onDone != callback) {
+                return;
+              }
+
+              onDone = null;
+              timedOut = true;
+            }
+
+            callback.run();
+          };
+        mainHandler.postDelayed(timeout, TIMEOUT_MS);
+        return;
+      }
+    }
+
+    callback.run();
+  }
+
+  synchronized boolean isTimedOut() {
+    return timedOut;
+  }
+
+  @Nullable
+  synchronized Object getResult() {
+    return result;
+  }
+
+  @Nullable
+  synchronized Throwable getError() {
+    return error;
+  }
+
+  synchronized long getPrepareMs() {
+    return prepareMs;
+  }
+}
@@ -8,10 +8,29 @@ public class Options {
   static final String FADE_IN_DURATION = "fadeInDuration";
   static final String FADE_OUT_DURATION = "fadeOutDuration";
   static final String ANIMATION_DURATION = "animationDuration";
+  static final String ASSET_BUDGET = "assetBudget";
+  static final String DIAGNOSTICS = "diagnostics";
+  static final String LOGGER_LEVEL = "logger.level";
+  static final String PROFILE = "profile";
+  static final String WEBVIEW_POLICY = "webViewPolicy";
+  static final String HANDOFF = "handoff";
+  static final String AUTO_HIDE = "autoHide";
+  static final String SESSION_ID = "sessionId";
+  static final String PROGRESS_STYLE = "progress.style";
+  static final String PROGRESS_COLOR = "progress.color";
+  static final String MAX_SHOW_DURATION = "maxShowDuration";
+  static final String TRANSITION = "transition";
+  static final String BOOST_PRIORITY = "boostPriority";
+  static final String EXIT_TIMING = "exitTiming";
+  static final String HIGH_REFRESH_RATE = "highRefreshRate";
+  static final String BAR_SCRIMS = "barScrims";
+  static final String EXIT_TIMING_IMMEDIATE = "immediate";
+  static final String EXIT_TIMING_ICON_END = "iconEnd";
   static final String DEFAULT_SOURCE = "*";
   static final double DURATION_MS_THRESHOLD = 10.0;
   static final Double DEFAULT_SHOW_DURATION = 700.0;
   static final Double DEFAULT_FADE_IN_DURATION = 200.0;
   static final Double DEFAULT_FADE_OUT_DURATION = 300.0;
   static final Double DEFAULT_ANIMATION_DURATION = 700.0;
+  static final Integer DEFAULT_ASSET_BUDGET = 8192;
 }
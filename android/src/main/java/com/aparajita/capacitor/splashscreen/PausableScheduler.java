@@ -0,0 +1,108 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Delayed runnables on a Handler that can be frozen and resumed.
+//
+// While paused, nothing runs: every pending runnable is taken off the
+// handler and keeps the time it still had to wait, and on resume it is
+// posted again with exactly that time remaining. Runnables posted while
+// paused wait for resume() before their delay starts.
+public class PausableScheduler {
+
+  private static class Entry {
+
+    final Runnable wrapper;
+    long dueAt;
+    long remaining;
+
+    Entry(Runnable wrapper) {
+      this.wrapper = wrapper;
+    }
+  }
+
+  private final Handler handler;
+  private final Map<Runnable, Entry> pending = new IdentityHashMap<>();
+  private boolean paused = false;
+
+  public PausableScheduler(@NonNull Handler handler) {
+    this.handler = handler;
+  }
+
+  public synchronized void postDelayed(@NonNull Runnable runnable, long delay) {
+    remove(runnable);
+
+    Entry entry = new Entry(() -> {
+      synchronized (this) {
+        pending.remove(runnable);
+      }
+
+      runnable.run();
+    });
+
+    pending.put(runnable, entry);
+
+    if (paused) {
+      entry.remaining = Math.max(delay, 0);
+    } else {
+      entry.dueAt = SystemClock.uptimeMillis() + Math.max(delay, 0);
+      handler.postAtTime(entry.wrapper, entry.dueAt);
+    }
+  }
+
+  public synchronized void remove(Runnable runnable) {
+    if (runnable == null) {
+      return;
+    }
+
+    Entry entry = pending.remove(runnable);
+
+    if (entry != null) {
+      handler.removeCallbacks(entry.wrapper);
+    }
+  }
+
+  public synchronized void removeAll() {
+    for (Entry entry : pending.values()) {
+      handler.removeCallbacks(entry.wrapper);
+    }
+
+    pending.clear();
+  }
+
+  public synchronized void pause() {
+    if (paused) {
+      return;
+    }
+
+    paused = true;
+    long now = SystemClock.uptimeMillis();
+
+    for (Entry entry : pending.values()) {
+      handler.removeCallbacks(entry.wrapper);
+      entry.remaining = Math.max(entry.dueAt - now, 0);
+    }
+  }
+
+  public synchronized void resume() {
+    if (!paused) {
+      return;
+    }
+
+    paused = false;
+    long now = SystemClock.uptimeMillis();
+
+    for (Entry entry : pending.values()) {
+      entry.dueAt = now + entry.remaining;
+      handler.postAtTime(entry.wrapper, entry.dueAt);
+    }
+  }
+
+  public synchronized boolean isPaused() {
+    return paused;
+  }
+}
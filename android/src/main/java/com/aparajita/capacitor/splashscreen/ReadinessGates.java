@@ -0,0 +1,142 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+// Named conditions that must all be satisfied before the launch screen
+// is released. Gates may be added and satisfied from any thread, by native
+// code or by JavaScript. Once a gate has been satisfied it stays satisfied.
+//
+// Gates belong to one launch. Once the launch screen exits they are closed:
+// they stay in the diagnostics, but they no longer hold or release anything,
+// a gate added with the same name replaces them, and the next launch drops
+// them. Gates added between two launches belong to the next one.
+public class ReadinessGates {
+
+  private static class Gate {
+
+    final String name;
+    final String origin;
+    final long addedAt;
+    long satisfiedAt = -1;
+    boolean failed = false;
+    boolean closed = false;
+
+    Gate(String name, String origin, long addedAt) {
+      this.name = name;
+      this.origin = origin;
+      this.addedAt = addedAt;
+    }
+  }
+
+  private final LinkedHashMap<String, Gate> gates = new LinkedHashMap<>();
+  private int pending = 0;
+  private int open = 0;
+
+  // Returns false if a gate with the same name already exists in this launch
+  public synchronized boolean add(@NonNull String name, @NonNull String origin) {
+    Gate existing = gates.get(name);
+
+    if (existing != null) {
+      if (!existing.closed) {
+        return false;
+      }
+
+      gates.remove(name);
+    }
+
+    gates.put(name, new Gate(name, origin, SystemClock.uptimeMillis()));
+    pending++;
+    open++;
+    return true;
+  }
+
+  // Returns false if there is no such gate
+  public synchronized boolean satisfy(@NonNull String name, boolean failed) {
+    Gate gate = gates.get(name);
+
+    if (gate == null) {
+      return false;
+    }
+
+    if (gate.satisfiedAt < 0) {
+      gate.satisfiedAt = SystemClock.uptimeMillis();
+      gate.failed = failed;
+
+      if (!gate.closed) {
+        pending--;
+      }
+    }
+
+    return true;
+  }
+
+  // Forget a gate that was never really started
+  public synchronized void remove(@NonNull String name) {
+    Gate gate = gates.remove(name);
+
+    if (gate == null || gate.closed) {
+      return;
+    }
+
+    open--;
+
+    if (gate.satisfiedAt < 0) {
+      pending--;
+    }
+  }
+
+  // Called when the launch screen exits
+  public synchronized void closeLaunch() {
+    for (Gate gate : gates.values()) {
+      gate.closed = true;
+    }
+
+    pending = 0;
+    open = 0;
+  }
+
+  // Called when a launch screen is installed
+  public synchronized void startLaunch() {
+    Iterator<Gate> iterator = gates.values().iterator();
+
+    while (iterator.hasNext()) {
+      if (iterator.next().closed) {
+        iterator.remove();
+      }
+    }
+  }
+
+  public synchronized boolean isEmpty() {
+    return open == 0;
+  }
+
+  public synchronized boolean allSatisfied() {
+    return pending == 0;
+  }
+
+  @NonNull
+  public synchronized JSArray toJSArray() {
+    JSArray result = new JSArray();
+    long now = SystemClock.uptimeMillis();
+
+    for (Gate gate : gates.values()) {
+      JSObject info = new JSObject();
+      info.put("name", gate.name);
+      info.put("origin", gate.origin);
+      info.put("satisfied", gate.satisfiedAt >= 0);
+      info.put("failed", gate.failed);
+      info.put(
+        "durationMs",
+        (gate.satisfiedAt >= 0 ? gate.satisfiedAt : now) - gate.addedAt
+      );
+      result.put(info);
+    }
+
+    return result;
+  }
+}
@@ -10,6 +10,8 @@ public class ShowOptions {
   public int delay;
   public int fadeInDuration;
   public int showDuration;
+  public boolean autoHide;
+  public SplashTransition.Style transition;
 
   // NOTE: ShowOptions are not used at launch, all launch config is retrieved
   // from the launch theme.
@@ -30,6 +32,7 @@ public class ShowOptions {
           Options.DEFAULT_SHOW_DURATION
         )
       );
+    autoHide = config.getBooleanOption(Options.AUTO_HIDE, options, false);
     fadeInDuration =
       SplashScreen.toMilliseconds(
         config.getDoubleOption(
@@ -38,18 +41,24 @@ public class ShowOptions {
           Options.DEFAULT_FADE_IN_DURATION
         )
       );
+    transition =
+      SplashTransition.Style.fromCode(
+        config.getStringOption(Options.TRANSITION, options)
+      );
   }
 
   @NonNull
   @Override
   public String toString() {
     return String.format(
-      Locale.getDefault(),
-      "ShowOptions {\nsource = %s\ndelay = %d,\nshowDuration = %d,\nfadeInDuration = %d\n}",
+      Locale.ROOT,
+      "ShowOptions {\nsource = %s\ndelay = %d,\nshowDuration = %d,\nautoHide = %b,\nfadeInDuration = %d,\ntransition = %s\n}",
       source,
       delay,
       showDuration,
-      fadeInDuration
+      autoHide,
+      fadeInDuration,
+      transition.getCode()
     );
   }
 }
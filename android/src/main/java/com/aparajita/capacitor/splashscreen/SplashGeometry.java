@@ -0,0 +1,31 @@
+package com.aparajita.capacitor.splashscreen;
+
+import androidx.annotation.NonNull;
+import java.util.Locale;
+
+// The size of the splash window and its icon for a single display configuration.
+// Instances are immutable so they can be cached and shared.
+public class SplashGeometry {
+
+  public final int width;
+  public final int height;
+  public final int iconSize;
+
+  public SplashGeometry(int width, int height, int iconSize) {
+    this.width = width;
+    this.height = height;
+    this.iconSize = iconSize;
+  }
+
+  @NonNull
+  @Override
+  public String toString() {
+    return String.format(
+      Locale.ROOT,
+      "SplashGeometry { width = %d, height = %d, iconSize = %d }",
+      width,
+      height,
+      iconSize
+    );
+  }
+}
@@ -0,0 +1,265 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.ImageDecoder;
+import android.graphics.drawable.AnimatedImageDrawable;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Decodes splash images from app files and assets on a background thread.
+//
+// Sources are "file://<path>", where a relative path is relative to the
+// app's files directory, or "asset://<path>" for a file in the app's assets.
+// Images are downsampled while decoding so that no full size bitmap is ever
+// allocated. On API 28+ animated WebP and GIF images become an
+// AnimatedImageDrawable, which decodes one frame at a time as it plays
+// instead of holding every frame in memory.
+public class SplashImageDecoder {
+
+  static final String FILE_SCHEME = "file://";
+  static final String ASSET_SCHEME = "asset://";
+
+  public interface Listener {
+    // Both are called on the main thread
+    void decoded(@NonNull Result result);
+
+    void failed(@NonNull String message);
+  }
+
+  public static class Result {
+
+    public final Drawable drawable;
+    public final boolean animated;
+    public final long decodeMs;
+
+    // An estimate of the memory held by the decoded image, from its
+    // decoded size. Since the image is downsampled while decoding, this is
+    // also about the most the decode allocates. It is exact only for
+    // a bitmap decoded before API 28.
+    public final long estimatedPeakBytes;
+
+    Result(
+      Drawable drawable,
+      boolean animated,
+      long decodeMs,
+      long estimatedPeakBytes
+    ) {
+      this.drawable = drawable;
+      this.animated = animated;
+      this.decodeMs = decodeMs;
+      this.estimatedPeakBytes = estimatedPeakBytes;
+    }
+  }
+
+  private static ExecutorService executor;
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  public static boolean isImageSource(@Nullable String source) {
+    return (
+      source != null &&
+      (source.startsWith(FILE_SCHEME) || source.startsWith(ASSET_SCHEME))
+    );
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      // The user is waiting on this, so it runs at normal priority
+      executor =
+        Executors.newSingleThreadExecutor(runnable ->
+          new Thread(
+            () -> {
+              Process.setThreadPriority(Process.THREAD_PRIORITY_DEFAULT);
+              runnable.run();
+            },
+            "SplashImageDecoder"
+          )
+        );
+    }
+
+    return executor;
+  }
+
+  // Decode the image in the background, only the result comes back to the main thread
+  public static void decode(
+    @NonNull Context context,
+    @NonNull String source,
+    int targetSize,
+    @NonNull Listener listener
+  ) {
+    Context appContext = context.getApplicationContext();
+
+    getExecutor()
+      .execute(() -> {
+        long start = SystemClock.uptimeMillis();
+
+        try {
+          Result result = Build.VERSION.SDK_INT >= Build.VERSION_CODES.P
+            ? decodeWithImageDecoder(appContext, source, targetSize, start)
+            : decodeWithBitmapFactory(appContext, source, targetSize, start);
+          mainHandler.post(() -> listener.decoded(result));
+        } catch (IOException | RuntimeException e) {
+          String message = e.getMessage() != null
+            ? e.getMessage()
+            : e.getClass().getSimpleName();
+          mainHandler.post(() ->
+            listener.failed(
+              String.format(
+                Locale.ROOT,
+                "Could not decode \"%s\": %s",
+                source,
+                message
+              )
+            )
+          );
+        }
+      });
+  }
+
+  @NonNull
+  private static String getPath(@NonNull String source) {
+    return source.startsWith(FILE_SCHEME)
+      ? source.substring(FILE_SCHEME.length())
+      : source.substring(ASSET_SCHEME.length());
+  }
+
+  @NonNull
+  private static File getFile(@NonNull Context context, @NonNull String path) {
+    File file = new File(path);
+    return file.isAbsolute() ? file : new File(context.getFilesDir(), path);
+  }
+
+  // Scale the image to fit in a square of targetSize pixels, never up
+  @NonNull
+  private static Size fitSize(int width, int height, int targetSize) {
+    float scale = Math.min(
+      1f,
+      (float) targetSize / Math.max(Math.max(width, height), 1)
+    );
+    return new Size(
+      Math.max(Math.round(width * scale), 1),
+      Math.max(Math.round(height * scale), 1)
+    );
+  }
+
+  @NonNull
+  @RequiresApi(Build.VERSION_CODES.P)
+  private static Result decodeWithImageDecoder(
+    @NonNull Context context,
+    @NonNull String source,
+    int targetSize,
+    long start
+  ) throws IOException {
+    String path = getPath(source);
+    ImageDecoder.Source imageSource = source.startsWith(FILE_SCHEME)
+      ? ImageDecoder.createSource(getFile(context, path))
+      : ImageDecoder.createSource(context.getAssets(), path);
+    Size[] decodedSize = new Size[1];
+
+    Drawable drawable = ImageDecoder.decodeDrawable(
+      imageSource,
+      (decoder, info, src) -> {
+        Size size = info.getSize();
+        decodedSize[0] =
+          fitSize(size.getWidth(), size.getHeight(), targetSize);
+        decoder.setTargetSize(
+          decodedSize[0].getWidth(),
+          decodedSize[0].getHeight()
+        );
+        // A still image only needs to be uploaded once, keep it in graphics
+        // memory. An animated image keeps the default allocator, since its
+        // frames are decoded into it as it plays.
+        if (!info.isAnimated()) {
+          decoder.setAllocator(ImageDecoder.ALLOCATOR_HARDWARE);
+        }
+      }
+    );
+
+    boolean animated = drawable instanceof AnimatedImageDrawable;
+    long frameBytes =
+      (long) decodedSize[0].getWidth() * decodedSize[0].getHeight() * 4;
+
+    // An animated image holds the frame on screen and the one being decoded
+    long estimatedPeakBytes = animated ? frameBytes * 2 : frameBytes;
+    return new Result(
+      drawable,
+      animated,
+      SystemClock.uptimeMillis() - start,
+      estimatedPeakBytes
+    );
+  }
+
+  // Before API 28 there is no ImageDecoder, animated images show their first frame
+  @NonNull
+  private static Result decodeWithBitmapFactory(
+    @NonNull Context context,
+    @NonNull String source,
+    int targetSize,
+    long start
+  ) throws IOException {
+    String path = getPath(source);
+    boolean isFile = source.startsWith(FILE_SCHEME);
+
+    // Read the bounds first so the sample size can be chosen
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    decodeStream(context, path, isFile, options);
+
+    int largest = Math.max(options.outWidth, options.outHeight);
+    int sampleSize = 1;
+
+    while (largest / (sampleSize * 2) >= targetSize) {
+      sampleSize *= 2;
+    }
+
+    options = new BitmapFactory.Options();
+    options.inSampleSize = sampleSize;
+    Bitmap bitmap = decodeStream(context, path, isFile, options);
+
+    if (bitmap == null) {
+      throw new IOException("unsupported image format");
+    }
+
+    Resources resources = context.getResources();
+    return new Result(
+      new BitmapDrawable(resources, bitmap),
+      false,
+      SystemClock.uptimeMillis() - start,
+      bitmap.getAllocationByteCount()
+    );
+  }
+
+  @Nullable
+  private static Bitmap decodeStream(
+    @NonNull Context context,
+    @NonNull String path,
+    boolean isFile,
+    @NonNull BitmapFactory.Options options
+  ) throws IOException {
+    try (
+      InputStream stream = isFile
+        ? new FileInputStream(getFile(context, path))
+        : context.getAssets().open(path)
+    ) {
+      return BitmapFactory.decodeStream(stream, null, options);
+    }
+  }
+}
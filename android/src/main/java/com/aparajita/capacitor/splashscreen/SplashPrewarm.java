@@ -0,0 +1,218 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.content.pm.ActivityInfo;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.graphics.drawable.Drawable;
+import android.os.Process;
+import android.view.ContextThemeWrapper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.res.ResourcesCompat;
+import com.getcapacitor.CapConfig;
+import com.getcapacitor.PluginConfig;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+
+// Splash resources resolved at process start by SplashPrewarmInitializer,
+// on a background thread, so that SplashScreen.load() does not have to
+// resolve them on the main thread after the bridge has been created.
+//
+// Everything is published by the write to ready, which is done last.
+// load() never waits: if the prewarm has not finished, or it was done
+// for a different activity or with a different config than the bridge's,
+// the plugin resolves everything itself.
+//
+// The config is read from the app's capacitor.config.json, since there is
+// no bridge yet. An app that gives the bridge its own config gets no
+// benefit from the prewarm, but no stale values either.
+public class SplashPrewarm {
+
+  private static final String PLUGIN_ID = "SplashScreen";
+  private static SplashPrewarm instance;
+
+  private volatile boolean ready = false;
+
+  String activityClassName;
+  String configJSON;
+  Config config;
+  int iconId;
+  boolean hasIconBackground;
+  Method eventHandler;
+  Method prepareHandler;
+  Drawable.ConstantState iconState;
+  String iconKey;
+  long iconBytes;
+
+  private SplashPrewarm() {}
+
+  @NonNull
+  static synchronized SplashPrewarm start(@NonNull Context context) {
+    if (instance == null) {
+      instance = new SplashPrewarm();
+      Context appContext = context.getApplicationContext();
+      Thread thread = new Thread(
+        () -> {
+          // The main thread is starting the app, this must not slow it down.
+          // If it loses the race, load() does the work itself.
+          Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+          instance.prewarm(appContext);
+        },
+        "SplashPrewarm"
+      );
+      thread.start();
+    }
+
+    return instance;
+  }
+
+  // Returns the prewarmed resources if they are ready and were resolved
+  // for this activity and the bridge's plugin config
+  @Nullable
+  static synchronized SplashPrewarm get(
+    @NonNull Context activity,
+    @Nullable PluginConfig bridgeConfig
+  ) {
+    if (
+      instance != null &&
+      instance.ready &&
+      activity.getClass().getName().equals(instance.activityClassName) &&
+      instance.configJSON.equals(toJSONString(bridgeConfig))
+    ) {
+      return instance;
+    }
+
+    return null;
+  }
+
+  @NonNull
+  private static String toJSONString(@Nullable PluginConfig pluginConfig) {
+    if (pluginConfig == null || pluginConfig.getConfigJSON() == null) {
+      return "";
+    }
+
+    return pluginConfig.getConfigJSON().toString();
+  }
+
+  static String makeIconKey(int iconId, @NonNull Configuration configuration) {
+    return (
+      "drawable:" +
+      iconId +
+      ":" +
+      (configuration.uiMode & Configuration.UI_MODE_NIGHT_MASK) +
+      ":" +
+      configuration.densityDpi
+    );
+  }
+
+  private void prewarm(@NonNull Context context) {
+    try {
+      PluginConfig pluginConfig = CapConfig
+        .loadDefault(context)
+        .getPluginConfiguration(PLUGIN_ID);
+      configJSON = toJSONString(pluginConfig);
+      config = new Config(pluginConfig);
+
+      // The launch theme is the theme of the launcher activity in the manifest
+      PackageManager packageManager = context.getPackageManager();
+      Intent intent = packageManager.getLaunchIntentForPackage(
+        context.getPackageName()
+      );
+
+      if (intent == null || intent.getComponent() == null) {
+        return;
+      }
+
+      ComponentName component = intent.getComponent();
+      ActivityInfo info = packageManager.getActivityInfo(component, 0);
+      activityClassName = component.getClassName();
+      Context themed = new ContextThemeWrapper(
+        context,
+        info.getThemeResource()
+      );
+      Resources.Theme theme = themed.getTheme();
+
+      TypedArray attrs = theme.obtainStyledAttributes(
+        new int[] { R.attr.windowSplashScreenAnimatedIcon }
+      );
+      iconId = attrs.getResourceId(0, 0);
+      attrs.recycle();
+
+      attrs =
+        theme.obtainStyledAttributes(
+          new int[] { R.attr.windowSplashScreenIconBackgroundColor }
+        );
+      hasIconBackground = attrs.hasValue(0);
+      attrs.recycle();
+
+      resolveEventHandler();
+      inflateIcon(themed);
+      ready = true;
+    } catch (Exception e) {
+      // Prewarming is an optimization, load() will do the work itself
+    }
+  }
+
+  private void resolveEventHandler() {
+    try {
+      eventHandler =
+        Class
+          .forName(activityClassName)
+          .getMethod(
+            "onSplashScreenEvent",
+            SplashScreen.HookEventType.class,
+            HashMap.class
+          );
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      eventHandler = null;
+    }
+
+    try {
+      prepareHandler =
+        Class
+          .forName(activityClassName)
+          .getMethod(
+            "onSplashScreenPrepare",
+            SplashScreen.HookEventType.class,
+            HashMap.class
+          );
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      prepareHandler = null;
+    }
+  }
+
+  private void inflateIcon(@NonNull Context themed) {
+    if (iconId == 0) {
+      return;
+    }
+
+    Drawable drawable = ResourcesCompat.getDrawable(
+      themed.getResources(),
+      iconId,
+      themed.getTheme()
+    );
+
+    if (drawable == null || drawable.getConstantState() == null) {
+      return;
+    }
+
+    Configuration configuration = themed.getResources().getConfiguration();
+    int iconSize = Math.round(
+      (
+        hasIconBackground
+          ? SplashSizer.ICON_SIZE_WITH_BACKGROUND_DP
+          : SplashSizer.ICON_SIZE_DP
+      ) *
+      configuration.densityDpi /
+      160f
+    );
+    iconKey = makeIconKey(iconId, configuration);
+    iconBytes = (long) iconSize * iconSize * 4;
+    iconState = drawable.getConstantState();
+  }
+}
@@ -0,0 +1,26 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.startup.Initializer;
+import java.util.Collections;
+import java.util.List;
+
+// An optional androidx.startup initializer that starts resolving splash
+// resources on a background thread at process start, overlapping the work
+// with Application and Activity creation. Enable it by adding its meta-data
+// to the InitializationProvider in the app's AndroidManifest.xml.
+public class SplashPrewarmInitializer implements Initializer<SplashPrewarm> {
+
+  @NonNull
+  @Override
+  public SplashPrewarm create(@NonNull Context context) {
+    return SplashPrewarm.start(context);
+  }
+
+  @NonNull
+  @Override
+  public List<Class<? extends Initializer<?>>> dependencies() {
+    return Collections.emptyList();
+  }
+}
@@ -0,0 +1,166 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.view.Gravity;
+import android.view.View;
+import android.widget.FrameLayout;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// A determinate progress indicator drawn on the programmatic splash,
+// either a bar below the icon or a ring around it.
+//
+// setProgress() only invalidates when the change would move the
+// indicator by at least a pixel, so redundant updates cost nothing.
+@SuppressLint("ViewConstructor")
+public class SplashProgressView extends View {
+
+  public enum Style {
+    BAR("bar"),
+    RING("ring");
+
+    private final String code;
+
+    Style(String code) {
+      this.code = code;
+    }
+
+    @NonNull
+    public static Style fromCode(@Nullable String code) {
+      for (Style style : values()) {
+        if (style.code.equals(code)) {
+          return style;
+        }
+      }
+
+      return BAR;
+    }
+  }
+
+  private static final float THICKNESS_DP = 4;
+  private static final float BAR_GAP_DP = 24;
+  private static final int TRACK_ALPHA = 0x40;
+
+  private final Style style;
+  private final float density;
+  private final Paint trackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+  private final Paint progressPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+  private final RectF bounds = new RectF();
+
+  // The value last drawn, and the length in pixels of the full indicator
+  private float progress = 0f;
+  private float length = 0f;
+
+  public SplashProgressView(
+    @NonNull Context context,
+    @NonNull Style style,
+    int color
+  ) {
+    super(context);
+    this.style = style;
+    density = context.getResources().getDisplayMetrics().density;
+
+    float thickness = THICKNESS_DP * density;
+    Paint.Style paintStyle = style == Style.RING
+      ? Paint.Style.STROKE
+      : Paint.Style.FILL;
+
+    trackPaint.setStyle(paintStyle);
+    trackPaint.setStrokeWidth(thickness);
+    trackPaint.setColor(
+      Color.argb(
+        TRACK_ALPHA,
+        Color.red(color),
+        Color.green(color),
+        Color.blue(color)
+      )
+    );
+
+    progressPaint.setStyle(paintStyle);
+    progressPaint.setStrokeWidth(thickness);
+    progressPaint.setStrokeCap(Paint.Cap.ROUND);
+    progressPaint.setColor(color);
+  }
+
+  // The bar sits below the icon, the ring surrounds it
+  @NonNull
+  public FrameLayout.LayoutParams makeLayoutParams(int iconSize) {
+    int thickness = Math.round(THICKNESS_DP * density);
+    FrameLayout.LayoutParams params;
+
+    if (style == Style.RING) {
+      params = new FrameLayout.LayoutParams(iconSize, iconSize);
+    } else {
+      params = new FrameLayout.LayoutParams(iconSize / 2, thickness);
+      params.topMargin = iconSize / 2 + Math.round(BAR_GAP_DP * density);
+    }
+
+    params.gravity = Gravity.CENTER;
+    return params;
+  }
+
+  public void setProgress(float value) {
+    float clamped = Math.max(0f, Math.min(value, 1f));
+
+    // Not a visible change, don't redraw. Until the view is laid out
+    // the length is unknown, just keep the value.
+    boolean visible =
+      length == 0f ||
+      clamped == 1f ||
+      Math.abs(clamped - progress) * length >= 1f;
+
+    if (!visible || clamped == progress) {
+      return;
+    }
+
+    progress = clamped;
+    invalidate();
+  }
+
+  public float getProgress() {
+    return progress;
+  }
+
+  @Override
+  protected void onSizeChanged(
+    int width,
+    int height,
+    int oldWidth,
+    int oldHeight
+  ) {
+    super.onSizeChanged(width, height, oldWidth, oldHeight);
+
+    float inset = style == Style.RING ? trackPaint.getStrokeWidth() / 2 : 0;
+    bounds.set(inset, inset, width - inset, height - inset);
+    length =
+      style == Style.RING ? (float) (Math.PI * bounds.width()) : bounds.width();
+  }
+
+  @Override
+  protected void onDraw(Canvas canvas) {
+    if (style == Style.RING) {
+      canvas.drawOval(bounds, trackPaint);
+      canvas.drawArc(bounds, -90f, 360f * progress, false, progressPaint);
+    } else {
+      float radius = bounds.height() / 2;
+      canvas.drawRoundRect(bounds, radius, radius, trackPaint);
+
+      if (progress > 0f) {
+        canvas.drawRoundRect(
+          bounds.left,
+          bounds.top,
+          bounds.left + bounds.width() * progress,
+          bounds.bottom,
+          radius,
+          radius,
+          progressPaint
+        );
+      }
+    }
+  }
+}
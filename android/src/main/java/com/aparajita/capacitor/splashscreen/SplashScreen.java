@@ -6,25 +6,38 @@ import android.animation.ObjectAnimator;
 import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Color;
 import android.graphics.PixelFormat;
-import android.graphics.Point;
+import android.graphics.drawable.Animatable;
 import android.graphics.drawable.AnimatedVectorDrawable;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.view.Choreographer;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.Window;
 import android.view.WindowManager;
 import android.view.animation.LinearInterpolator;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.AppCompatImageView;
 import androidx.core.content.res.ResourcesCompat;
+import androidx.core.graphics.ColorUtils;
 import androidx.core.splashscreen.SplashScreenViewProvider;
 import com.aparajita.capacitor.logger.Logger;
 import com.getcapacitor.JSObject;
@@ -33,13 +46,25 @@ import com.getcapacitor.PluginCall;
 import com.getcapacitor.PluginMethod;
 import com.getcapacitor.annotation.CapacitorPlugin;
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jetbrains.annotations.Contract;
+import org.json.JSONException;
 
 @CapacitorPlugin(name = "SplashScreen")
 public class SplashScreen extends Plugin {
@@ -57,8 +82,10 @@ public class SplashScreen extends Plugin {
     NOT_FOUND("notFound"),
     NO_SPLASH("noSplash"),
     ALREADY_ACTIVE("alreadyActive"),
+    INVALID_OPTION("invalidOption"),
     HOOK_METHOD_NOT_FOUND("hookMethodNotFound"),
-    HOOK_METHOD_FAILED("animateMethodFailed");
+    HOOK_METHOD_FAILED("animateMethodFailed"),
+    STALE_SESSION("staleSession");
 
     private final String code;
 
@@ -71,11 +98,46 @@ public class SplashScreen extends Plugin {
     }
   }
 
+  public enum Outcome {
+    // The transition ran to completion
+    COMPLETED("completed"),
+    // The transition was merged with one already in progress
+    COALESCED("coalesced"),
+    // The transition was cancelled by a later call
+    CANCELLED("cancelled");
+
+    private final String code;
+
+    Outcome(String code) {
+      this.code = code;
+    }
+
+    public String getCode() {
+      return this.code;
+    }
+  }
+
   private static long launchStartTime;
+
+  // Used to tell cold, warm and hot starts apart
+  private static boolean loadedInProcess = false;
+  private static boolean launchHasSavedState = false;
+  private static long activityCreatedAt = 0;
+  private static final ReadinessGates readinessGates = new ReadinessGates();
+  private static WarmupExecutor warmupExecutor;
+  private static final DeferredWorkQueue deferredWork = new DeferredWorkQueue();
+  private static final TransitionBoost transitionBoost = new TransitionBoost();
   private static int statusBarColor;
   private static int navigationBarColor;
+
+  // If true, bar colors are changed with scrims instead of on every frame
+  private static boolean useBarScrims = false;
+  // The programmatic splash while it is in its window, so that bar scrims
+  // are drawn above it. Weak, since the bar functions are static.
+  private static WeakReference<View> scrimHost = new WeakReference<>(null);
   private Config config;
   private Context context;
+  // Made on first use, see getLogger()
   private Logger logger;
   private Resources.Theme launchTheme;
   private String source = Options.DEFAULT_SOURCE;
@@ -83,18 +145,202 @@ public class SplashScreen extends Plugin {
   private Drawable splashIcon;
   private ImageView iconView;
   private long splashScreenDuration;
+
+  // The hard limit on how long any splash may stay up, 0 if there is none
+  private int maxShowDuration;
+
+  // If true, the launch screen exit waits for the icon animation to end
+  private boolean exitOnIconEnd = false;
+
+  // Set if a faster display mode should be requested during transitions
+  private DisplayModeRequest displayModeRequest;
   private String splashScreenDrawablePath;
-  private JSObject animateOptions;
-  private HideOptions hideOptions;
+  private int launchIconId;
+  private SplashPrewarm prewarm;
+  // The current launch or programmatic splash, never reset to null once set
+  private volatile SplashSession session;
+  // Resolved on first use, guarded by this
   private Method eventHandler;
+  private Method prepareHandler;
+  private boolean hooksResolved = false;
   private WindowManager windowManager;
-  private AnimationCallbacks animateCallbacks;
-  private boolean isActive = false;
-  private boolean isHiding = false;
-  private boolean isLaunchSplash = false;
+  private volatile AnimationCallbacks animateCallbacks;
+  private final AtomicReference<SplashState> state = new AtomicReference<>(
+    SplashState.IDLE
+  );
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  // Delayed show/hide/hook work, frozen while the activity is paused
+  private final PausableScheduler scheduler = new PausableScheduler(
+    mainHandler
+  );
+
+  // These are only touched on the UI thread
+  private AnimationCallbacks showCallbacks;
+  private AnimationCallbacks hideCallbacks;
+  private Runnable pendingShowRunner;
+  private Runnable pendingHideRunner;
+  private Animator splashAnimator;
+  private final List<ValueAnimator> barAnimators = new ArrayList<>();
+
+  // Every splash animator that is currently running, so they can be paused together
+  private final Set<Animator> liveAnimators = new HashSet<>();
+  private long pausedAt = 0;
+  private boolean splashIconPaused = false;
+  private WindowManager.LayoutParams splashParams;
+  private SplashProgressView progressView;
+
+  // Progress updates may arrive at any rate, only the latest value
+  // is applied, once per frame. A negative value means none is pending.
+  private final AtomicBoolean progressFrameScheduled = new AtomicBoolean(
+    false
+  );
+  private volatile float pendingProgress = -1f;
+  private Choreographer choreographer;
+  private final Choreographer.FrameCallback progressFrame = frameTimeNanos ->
+    applyProgress();
+  private SplashSizer sizer;
+  private AssetBudget assetBudget;
+  private DiagnosticsLog diagnostics;
+  // Classified in load()
+  private DeviceClass deviceClass;
+  private WebViewPolicy webViewPolicy;
+  private StartInfo startInfo;
+
+  // Uptime at the start of load(), for the time to install
+  private long loadStartedAt;
+
+  // Set when the launch screen left without waiting for hide()
+  private volatile boolean launchAutoReleased = false;
+  private boolean handoffEnabled = false;
+
+  // Set on the UI thread when the handoff splash has been prebuilt
+  private boolean handoffReady = false;
+  private static final String HANDOFF_ASSET_KEY = "handoffViews";
+
+  // Drawables already inflated for show(), keyed by resource and configuration.
+  // Entries are accounted for in assetBudget, which may release them at any time.
+  private final Map<String, Drawable.ConstantState> drawableCache = new ConcurrentHashMap<>();
+
+  // Resize the splash in place when the activity window changes size,
+  // e.g. entering split screen or unfolding a foldable.
+  private final View.OnLayoutChangeListener windowLayoutListener = (
+      view,
+      left,
+      top,
+      right,
+      bottom,
+      oldLeft,
+      oldTop,
+      oldRight,
+      oldBottom
+    ) -> {
+    if (
+      right - left != oldRight - oldLeft || bottom - top != oldBottom - oldTop
+    ) {
+      relayoutSplash();
+    }
+  };
 
   public static void initLaunchTime() {
     launchStartTime = new Date().getTime();
+    activityCreatedAt = SystemClock.uptimeMillis();
+  }
+
+  /**
+   * Call this instead of initLaunchTime() to pass the activity's saved state,
+   * which allows a warm start to be distinguished from a cold start.
+   */
+  public static void initLaunchTime(@Nullable Bundle savedInstanceState) {
+    initLaunchTime();
+    launchHasSavedState = savedInstanceState != null;
+  }
+
+  /**
+   * Add a named gate that must be satisfied before the launch screen is released.
+   * Once at least one gate exists, the launch screen is released automatically
+   * when every gate is satisfied and showDuration has elapsed, without waiting
+   * for hide() or animate(). May be called from any thread, including before
+   * the plugin is loaded.
+   */
+  public static boolean addReadinessGate(@NonNull String name) {
+    return readinessGates.add(name, "native");
+  }
+
+  public static boolean satisfyReadinessGate(@NonNull String name) {
+    return readinessGates.satisfy(name, false);
+  }
+
+  /**
+   * Defer work until the splash has been fully removed. Deferred work is run
+   * on the main thread when it is idle, highest priority first, in short
+   * time slices so it does not cause jank.
+   */
+  public static void runAfterSplash(
+    @NonNull String name,
+    int priority,
+    @NonNull Runnable task
+  ) {
+    deferredWork.submit(name, priority, task);
+  }
+
+  /**
+   * Run a warmup task on a bounded background executor while the splash is up.
+   * A readiness gate with the given name is added, and satisfied when the task
+   * finishes, whether or not it succeeds.
+   *
+   * @throws java.util.concurrent.RejectedExecutionException if too many tasks are queued
+   */
+  @NonNull
+  public static synchronized Future<?> submitWarmupTask(
+    @NonNull String name,
+    @NonNull Runnable task
+  ) {
+    if (warmupExecutor == null) {
+      warmupExecutor = new WarmupExecutor();
+    }
+
+    readinessGates.add(name, "warmup");
+
+    try {
+      return warmupExecutor.submit(() -> {
+        boolean failed = true;
+
+        try {
+          task.run();
+          failed = false;
+        } finally {
+          readinessGates.satisfy(name, failed);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      readinessGates.remove(name);
+      throw e;
+    }
+  }
+
+  /**
+   * Wait on a background thread until the running splash transition, if any,
+   * has finished, for at most timeoutMs. Only transitions started while the
+   * boostPriority option is enabled are waited for.
+   *
+   * @return false if the timeout elapsed first
+   */
+  public static boolean awaitSplashTransition(long timeoutMs)
+    throws InterruptedException {
+    return transitionBoost.await(timeoutMs);
+  }
+
+  /**
+   * Wrap an executor so that each of its tasks waits for the running splash
+   * transition, for at most timeoutMs, before it starts.
+   */
+  @NonNull
+  public static Executor yieldToSplashTransitions(
+    @NonNull Executor executor,
+    long timeoutMs
+  ) {
+    return transitionBoost.wrap(executor, timeoutMs);
   }
 
   // Users can specify durations in seconds (< 10) or milliseconds (>= 10).
@@ -105,45 +351,295 @@ public class SplashScreen extends Plugin {
       : Double.valueOf(value * 1000.0).intValue();
   }
 
-  private void postError(
-    AnimationCallbacks callbacks,
-    String message,
-    ErrorType code
-  ) {
-    callbacks.error(message, code);
-    isActive = false;
+  private void postAlreadyActive(AnimationCallbacks callbacks) {
+    callbacks.error(
+      "A splash screen is already active",
+      ErrorType.ALREADY_ACTIVE
+    );
   }
 
-  private boolean isAlreadyHiding(AnimationCallbacks callbacks) {
-    if (isHiding) {
-      callbacks.error(
-        "A splash screen is already active",
-        ErrorType.ALREADY_ACTIVE
-      );
-      return true;
-    }
+  private void postNoSplash(AnimationCallbacks callbacks) {
+    callbacks.error(
+      "No splash screen view is available",
+      ErrorType.NO_SPLASH
+    );
+  }
 
-    return false;
+  public SplashState getState() {
+    return state.get();
   }
 
   @Override
   public void load() {
+    loadStartedAt = SystemClock.uptimeMillis();
     context = getContext();
-    config = new Config(this);
-    logger = new Logger(this);
+    choreographer = Choreographer.getInstance();
+
+    // Only what the launch screen needs comes before it is installed,
+    // every millisecond here delays the launch screen on a cold start.
+    // If SplashPrewarmInitializer ran, most of the work has already been done.
+    prewarm = SplashPrewarm.get(getActivity(), getConfig());
+    config = prewarm != null ? prewarm.config : new Config(this);
+
+    // The diagnostics log is on when debug logging is on, or when explicitly enabled
+    boolean diagnosticsEnabled =
+      "debug".equals(config.getString(Options.LOGGER_LEVEL, "info")) ||
+      config.getBoolean(Options.DIAGNOSTICS, false);
+    diagnostics =
+      new DiagnosticsLog(diagnosticsEnabled, DiagnosticsLog.DEFAULT_CAPACITY);
+
+    // A few cheap system lookups, and the launch screen exit depends on it
+    deviceClass =
+      new DeviceClass(context, config.getString(Options.PROFILE, null));
+
+    maxShowDuration =
+      toMilliseconds(config.getDouble(Options.MAX_SHOW_DURATION, 0.0));
+    transitionBoost.setEnabled(
+      config.getBoolean(Options.BOOST_PRIORITY, false)
+    );
+    useBarScrims = config.getBoolean(Options.BAR_SCRIMS, false);
+    exitOnIconEnd =
+      Options.EXIT_TIMING_ICON_END.equals(
+        config.getString(Options.EXIT_TIMING, Options.EXIT_TIMING_IMMEDIATE)
+      );
+
+    startInfo =
+      new StartInfo(
+        config,
+        loadedInProcess,
+        launchHasSavedState,
+        activityCreatedAt
+      );
+    loadedInProcess = true;
+    launchHasSavedState = false;
+    activityCreatedAt = 0;
+
+    if (prewarm != null) {
+      synchronized (this) {
+        eventHandler = prewarm.eventHandler;
+        prepareHandler = prewarm.prepareHandler;
+        hooksResolved = true;
+      }
+    }
+
+    showLaunchScreen();
+
+    // The rest is not needed until the launch screen exits or a call arrives
+    deferredWork.setFailureListener(this::reportDeferredFailure);
+    webViewPolicy =
+      new WebViewPolicy(
+        WebViewPolicy.Mode.fromCode(
+          config.getString(Options.WEBVIEW_POLICY, null)
+        )
+      );
+
+    long budgetKb = config.getInt(
+      Options.ASSET_BUDGET,
+      Options.DEFAULT_ASSET_BUDGET
+    );
+    assetBudget = new AssetBudget(budgetKb * 1024);
+    context.registerComponentCallbacks(assetBudget);
+
+    if (prewarm != null && prewarm.iconState != null) {
+      String key = prewarm.iconKey;
+
+      if (
+        assetBudget.put(key, prewarm.iconBytes, () -> drawableCache.remove(key))
+      ) {
+        drawableCache.put(key, prewarm.iconState);
+      }
+    }
+
+    // The logger and the hooks are made on first use.
+    // If nothing has used them by the first frame, make them then, so they
+    // are ready by the time the launch screen exits.
+    choreographer.postFrameCallback(frameTimeNanos ->
+      mainHandler.post(this::finishLoad)
+    );
+  }
+
+  private void finishLoad() {
+    getLogger();
+    resolveHooks();
+
+    // Display modes can only be requested on API 23+
+    if (
+      config.getBoolean(Options.HIGH_REFRESH_RATE, false) &&
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.M
+    ) {
+      DisplayModeRequest request = new DisplayModeRequest(
+        getActivity().getWindowManager().getDefaultDisplay()
+      );
+
+      if (request.isAvailable()) {
+        displayModeRequest = request;
+        diagnostics.record(
+          DiagnosticsLog.Event.DISPLAY_MODE,
+          null,
+          Math.round(request.getRefreshRate())
+        );
+      }
+    }
+  }
+
+  private void reportDeferredFailure(
+    @NonNull String name,
+    @NonNull RuntimeException e
+  ) {
+    String message = "Deferred task \"" + name + "\" failed: " + e;
+    diagnostics.record(DiagnosticsLog.Event.ERROR, message);
+    getLogger().error(message);
+  }
+
+  @NonNull
+  private synchronized Logger getLogger() {
+    if (logger == null) {
+      logger = new Logger(this);
+    }
+
+    return logger;
+  }
+
+  // See if the splash screen event handler is defined,
+  // if so we might as well cache it.
+  private synchronized void resolveHooks() {
+    if (hooksResolved) {
+      return;
+    }
+
+    hooksResolved = true;
 
-    // See if the splash screen event handler is defined,
-    // if so we might as well cache it.
     try {
       eventHandler =
         getActivity()
           .getClass()
           .getMethod("onSplashScreenEvent", HookEventType.class, HashMap.class);
     } catch (NoSuchMethodException e) {
-      logger.info("no onSplashScreenEvent() handler found");
+      eventHandler = null;
+      getLogger().info("no onSplashScreenEvent() handler found");
     }
 
-    showLaunchScreen();
+    // The optional prepare phase of the hook
+    try {
+      prepareHandler =
+        getActivity()
+          .getClass()
+          .getMethod(
+            "onSplashScreenPrepare",
+            HookEventType.class,
+            HashMap.class
+          );
+    } catch (NoSuchMethodException e) {
+      prepareHandler = null;
+    }
+  }
+
+  @Nullable
+  private Method getEventHandler() {
+    resolveHooks();
+    return eventHandler;
+  }
+
+  @Nullable
+  private Method getPrepareHandler() {
+    resolveHooks();
+    return prepareHandler;
+  }
+
+  @PluginMethod
+  public void getDiagnostics(@NonNull PluginCall call) {
+    JSObject result = new JSObject();
+    result.put("memory", assetBudget.toJSObject());
+    result.put("device", deviceClass.toJSObject());
+    result.put("gates", readinessGates.toJSArray());
+    result.put("deferred", deferredWork.toJSObject());
+    JSObject timing = startInfo.toJSObject();
+    timing.put("boost", transitionBoost.toJSObject());
+    result.put("timing", timing);
+
+    SplashSession current = session;
+
+    if (current != null) {
+      result.put("session", current.toJSObject());
+    }
+
+    call.resolve(result);
+  }
+
+  @PluginMethod
+  public void addGate(@NonNull PluginCall call) {
+    String name = call.getString("name");
+
+    if (name == null || name.isEmpty()) {
+      call.reject(
+        "A gate name is required",
+        ErrorType.INVALID_OPTION.getCode()
+      );
+      return;
+    }
+
+    readinessGates.add(name, "js");
+    call.resolve();
+  }
+
+  @PluginMethod
+  public void satisfyGate(@NonNull PluginCall call) {
+    String name = call.getString("name");
+
+    if (name == null || !readinessGates.satisfy(name, false)) {
+      call.reject(
+        String.format(Locale.ROOT, "No gate named \"%s\" exists", name),
+        ErrorType.INVALID_OPTION.getCode()
+      );
+      return;
+    }
+
+    call.resolve();
+  }
+
+  @PluginMethod(returnType = PluginMethod.RETURN_CALLBACK)
+  public void runAfterSplash(@NonNull PluginCall call) {
+    String name = call.getString("name", "js");
+    int priority = call.getInt("priority", 0);
+    long queuedAt = SystemClock.uptimeMillis();
+
+    // The JavaScript callback is the task, we just decide when it runs
+    deferredWork.submit(
+      name,
+      priority,
+      () -> {
+        JSObject result = new JSObject();
+        result.put("name", name);
+        result.put("waitMs", SystemClock.uptimeMillis() - queuedAt);
+        call.resolve(result);
+      }
+    );
+  }
+
+  @PluginMethod
+  public void setProgress(@NonNull PluginCall call) {
+    Float value = call.getFloat("value");
+
+    if (value == null || value.isNaN()) {
+      call.reject(
+        "A progress value is required",
+        ErrorType.INVALID_OPTION.getCode()
+      );
+      return;
+    }
+
+    pendingProgress = Math.max(0f, Math.min(value, 1f));
+
+    if (progressFrameScheduled.compareAndSet(false, true)) {
+      choreographer.postFrameCallback(progressFrame);
+    }
+
+    call.resolve();
+  }
+
+  @PluginMethod
+  public void getLog(@NonNull PluginCall call) {
+    call.resolve(diagnostics.dump());
   }
 
   @PluginMethod
@@ -153,28 +649,93 @@ public class SplashScreen extends Plugin {
 
   @PluginMethod
   public void hide(@NonNull PluginCall call) {
-    hideOptions = new HideOptions(call.getData(), config);
-    hide(makePluginCallbacks(call));
+    if (isStale(call)) {
+      return;
+    }
+
+    hide(makeHideOptions(call.getData()), makePluginCallbacks(call));
   }
 
   @PluginMethod
   public void animate(@NonNull PluginCall call) {
+    if (isStale(call)) {
+      return;
+    }
+
     animate(call.getData(), makePluginCallbacks(call));
   }
 
+  // A call that names a session which is no longer current is rejected before doing any work
+  private boolean isStale(@NonNull PluginCall call) {
+    Integer sessionId = call.getInt(Options.SESSION_ID);
+
+    if (sessionId == null) {
+      return false;
+    }
+
+    SplashSession current = session;
+
+    if (current != null && current.id == sessionId && !current.isEnded()) {
+      return false;
+    }
+
+    diagnostics.record(DiagnosticsLog.Event.STALE_SESSION, null, sessionId);
+    call.reject(
+      String.format(
+        Locale.ROOT,
+        "Splash session %d is no longer current",
+        sessionId
+      ),
+      ErrorType.STALE_SESSION.getCode()
+    );
+    return true;
+  }
+
+  // Options with fade durations adjusted for the device profile
+  private ShowOptions makeShowOptions(JSObject options) {
+    ShowOptions showOptions = new ShowOptions(options, config);
+    showOptions.fadeInDuration =
+      deviceClass.profile.scaleDuration(showOptions.fadeInDuration);
+    return showOptions;
+  }
+
+  private HideOptions makeHideOptions(JSObject options) {
+    HideOptions result = new HideOptions(options, config);
+    result.fadeOutDuration =
+      deviceClass.profile.scaleDuration(result.fadeOutDuration);
+    return result;
+  }
+
   @NonNull
   @Contract("_ -> new")
   private AnimationCallbacks makePluginCallbacks(PluginCall call) {
     return new AnimationCallbacks() {
+      private SplashSession boundSession;
+
+      @Override
+      public void setSession(SplashSession session) {
+        boundSession = session;
+      }
+
       @Override
       public void done() {
-        animateOptions = null;
-        call.resolve();
+        done(Outcome.COMPLETED);
+      }
+
+      @Override
+      public void done(Outcome outcome) {
+        JSObject result = new JSObject();
+        result.put("outcome", outcome.getCode());
+
+        if (boundSession != null) {
+          result.put("sessionId", boundSession.id);
+        }
+
+        call.resolve(result);
       }
 
       @Override
       public void error(String message, ErrorType code) {
-        animateOptions = null;
         call.reject(message, code.getCode());
       }
 
@@ -211,34 +772,60 @@ public class SplashScreen extends Plugin {
   }
 
   public void showLaunchScreen() {
-    isLaunchSplash = true;
-    isActive = false;
-    isHiding = false;
-
     // This will be set if animate() is called
     animateCallbacks = null;
+    state.set(SplashState.LAUNCH);
+    readinessGates.startLaunch();
+    deferredWork.hold();
 
     // When we get here, the system has already shown the launch screen
     androidx.core.splashscreen.SplashScreen launchScreen = androidx.core.splashscreen.SplashScreen.Companion.installSplashScreen(
       getActivity()
     );
+    startInfo.recordInstall(loadStartedAt);
     launchTheme = getActivity().getTheme();
 
-    // Get the configured splash screen icon
-    TypedArray attrs = launchTheme.obtainStyledAttributes(
-      new int[] { R.attr.windowSplashScreenAnimatedIcon }
-    );
+    if (prewarm != null) {
+      launchIconId = prewarm.iconId;
+      sizer = new SplashSizer(prewarm.hasIconBackground);
+    } else {
+      // Get the configured splash screen icon
+      TypedArray attrs = launchTheme.obtainStyledAttributes(
+        new int[] { R.attr.windowSplashScreenAnimatedIcon }
+      );
 
-    splashScreenDrawablePath = attrs.getString(0);
-    attrs.recycle();
+      splashScreenDrawablePath = attrs.getString(0);
+      launchIconId = attrs.getResourceId(0, 0);
+      attrs.recycle();
 
-    splashScreenDuration =
-      toMilliseconds(
-        config.getDouble(Options.SHOW_DURATION, Options.DEFAULT_SHOW_DURATION)
-      );
-    Date showUntil = new Date();
-    showUntil.setTime(showUntil.getTime() + splashScreenDuration);
-    launchScreen.setKeepOnScreenCondition(() -> keepOnScreen(showUntil));
+      // The icon is smaller when the theme gives it a background
+      attrs =
+        launchTheme.obtainStyledAttributes(
+          new int[] { R.attr.windowSplashScreenIconBackgroundColor }
+        );
+      sizer = new SplashSizer(attrs.hasValue(0));
+      attrs.recycle();
+    }
+
+    // Each type of start has its own show duration
+    splashScreenDuration = startInfo.showDuration;
+    diagnostics.record(
+      DiagnosticsLog.Event.START_TYPE,
+      startInfo.type,
+      splashScreenDuration,
+      startInfo.processAgeMs,
+      0
+    );
+    // The show duration counts from when the app was launched
+    SplashSession launchSession = SplashSession.launch(
+      launchStartTime,
+      splashScreenDuration
+    );
+    session = launchSession;
+
+    // A later start must call initLaunchTime() again, or it counts from now
+    launchStartTime = 0;
+    launchScreen.setKeepOnScreenCondition(() -> keepOnScreen(launchSession));
 
     // Save the theme's status bar and navigation bar colors,
     // then set them to transparent so there is no flicker when
@@ -246,77 +833,378 @@ public class SplashScreen extends Plugin {
     AppCompatActivity activity = getActivity();
     statusBarColor = activity.getWindow().getStatusBarColor();
     navigationBarColor = activity.getWindow().getNavigationBarColor();
+    // Read from the activity's theme, like every later use of the color
     int splashScreenBackground = getSplashScreenBackground();
     activity.getWindow().setStatusBarColor(splashScreenBackground);
     activity.getWindow().setNavigationBarColor(splashScreenBackground);
 
+    // In handoff mode, build the programmatic splash while the launch screen is up,
+    // so it is ready to take over when the launch screen exits.
+    // When the launch screen auto-hides there is nothing to hand off to.
+    handoffEnabled =
+      config.getBoolean(Options.HANDOFF, false) && !startInfo.autoHide;
+
+    if (handoffEnabled) {
+      mainHandler.post(this::prebuildHandoffViews);
+    }
+
     launchScreen.setOnExitAnimationListener(viewProvider -> {
-      if (animateCallbacks != null) {
-        animateLaunchScreen(viewProvider);
+      diagnostics.record(DiagnosticsLog.Event.LAUNCH_EXIT, state.get());
+
+      if (!exitOnIconEnd) {
+        exitLaunchScreen(viewProvider);
+        return;
+      }
+
+      // Let the icon animation play out before the exit starts
+      long wait = getIconAnimationRemaining(viewProvider);
+      startInfo.recordIconWait(wait);
+
+      if (wait > 0) {
+        diagnostics.record(DiagnosticsLog.Event.ICON_WAIT, null, wait);
+        scheduler.postDelayed(() -> exitLaunchScreen(viewProvider), wait);
       } else {
-        fadeOutLaunchScreen(viewProvider);
+        exitLaunchScreen(viewProvider);
       }
     });
   }
 
-  private boolean keepOnScreen(Date showUntil) {
-    // Keep the splash on screen until dismissed by the app and the show duration has elapsed
-    boolean keepShowing = new Date().before(showUntil);
-    return keepShowing || !isHiding;
+  private void exitLaunchScreen(
+    @NonNull SplashScreenViewProvider viewProvider
+  ) {
+    Trace.beginSection(SplashTrace.EXIT_LAUNCH);
+
+    try {
+      // The gates have done their job, the next launch gets its own
+      readinessGates.closeLaunch();
+
+      if (handoffEnabled && handOff(viewProvider)) {
+        return;
+      }
+
+      beginTransition();
+
+      if (state.get() == SplashState.LAUNCH_ANIMATING) {
+        animateLaunchScreen(viewProvider);
+      } else {
+        fadeOutLaunchScreen(viewProvider);
+      }
+    } finally {
+      Trace.endSection();
+    }
   }
 
-  private void fadeOutLaunchScreen(
+  // Milliseconds until the final frame of the launch icon's animation,
+  // 0 if it has none or it is already over.
+  private static long getIconAnimationRemaining(
     @NonNull SplashScreenViewProvider viewProvider
   ) {
-    final ObjectAnimator fadeAnimator = ObjectAnimator.ofFloat(
-      viewProvider.getView(),
-      View.ALPHA,
-      1f,
-      0f
-    );
-    fadeAnimator.setInterpolator(new LinearInterpolator());
-    fadeAnimator.setDuration(hideOptions.fadeOutDuration);
+    long duration = viewProvider.getIconAnimationDurationMillis();
 
-    fadeAnimator.addListener(
-      new AnimatorListenerAdapter() {
-        @Override
-        public void onAnimationEnd(Animator animation) {
-          removeLaunchScreen(viewProvider);
-        }
-      }
-    );
+    if (duration <= 0) {
+      return 0;
+    }
 
-    fadeAnimator.start();
-    int splashScreenBackground = getSplashScreenBackground();
-    showStatusBar(
-      getActivity(),
-      splashScreenBackground,
-      0,
-      hideOptions.fadeOutDuration,
-      null
-    );
-    showNavigationBar(
-      getActivity(),
-      splashScreenBackground,
-      0,
-      hideOptions.fadeOutDuration,
-      null
-    );
+    long end = viewProvider.getIconAnimationStartMillis() + duration;
+    long remaining = end - SystemClock.uptimeMillis();
+    return Math.max(0, Math.min(remaining, duration));
   }
 
-  private void animateLaunchScreen(SplashScreenViewProvider viewProvider) {
-    AppCompatActivity activity = getActivity();
-    int splashScreenBackground = getSplashScreenBackground();
+  private boolean keepOnScreen(@NonNull SplashSession launchSession) {
+    // The failsafe overrides the readiness gates and the wait for the app
+    if (
+      maxShowDuration > 0 &&
+      launchSession.getAge() >= maxShowDuration &&
+      forceLaunchExit(launchSession)
+    ) {
+      return false;
+    }
 
-    AnimationCallbacks callbacks = new AnimationCallbacks() {
-      private void cleanup() {
-        removeLaunchScreen(viewProvider);
+    // Keep the splash on screen until dismissed by the app and the show duration has elapsed
+    boolean keepShowing = launchSession.remainingShowTime() > 0;
 
-        // On API 31+ if we don't do this after removeLaunchScreen()
-        // the navigation bar goes transparent.
-        Window window = getActivity().getWindow();
-        window.setStatusBarColor(statusBarColor);
-        window.setNavigationBarColor(navigationBarColor);
+    // Readiness gates hold the splash even if the app has dismissed it
+    if (!readinessGates.allSatisfied()) {
+      return true;
+    }
+
+    // Once every gate is satisfied, the gates dismiss the splash on the app's behalf,
+    // as does auto-hide.
+    if (!keepShowing) {
+      if (!readinessGates.isEmpty()) {
+        releaseLaunchScreen(DiagnosticsLog.Event.GATES_RELEASED);
+      } else if (startInfo.autoHide) {
+        releaseLaunchScreen(DiagnosticsLog.Event.AUTO_HIDDEN);
+      }
+    }
+
+    SplashState current = state.get();
+
+    // animate() publishes its callbacks right after winning the CAS,
+    // wait for them so the exit listener never sees a half-made request.
+    // In handoff mode the launch screen does not wait for the app,
+    // the programmatic splash takes over and waits instead.
+    boolean waiting =
+      (current == SplashState.LAUNCH && !handoffEnabled) ||
+      (current == SplashState.LAUNCH_ANIMATING && animateCallbacks == null);
+    return keepShowing || waiting;
+  }
+
+  // Let the launch screen exit, whether or not the app is ready
+  private boolean forceLaunchExit(@NonNull SplashSession launchSession) {
+    SplashState current = state.get();
+    boolean exiting;
+
+    if (current == SplashState.LAUNCH) {
+      exiting =
+        state.compareAndSet(SplashState.LAUNCH, SplashState.LAUNCH_EXITING);
+    } else {
+      // If animate() is half made, let it finish publishing its callbacks
+      exiting =
+        current == SplashState.LAUNCH_EXITING ||
+        (current == SplashState.LAUNCH_ANIMATING && animateCallbacks != null);
+    }
+
+    if (exiting && !launchSession.forced) {
+      launchSession.forced = true;
+      reportForcedHide(launchSession, current);
+    }
+
+    return exiting;
+  }
+
+  private void prebuildHandoffViews() {
+    if (state.get() != SplashState.LAUNCH || handoffReady) {
+      return;
+    }
+
+    source = Options.DEFAULT_SOURCE;
+    windowManager =
+      (WindowManager) getActivity().getSystemService(Context.WINDOW_SERVICE);
+
+    try {
+      buildViews(null);
+    } catch (Exception e) {
+      diagnostics.record(DiagnosticsLog.Event.ERROR, e.getMessage());
+      return;
+    }
+
+    // The window surface only exists once the views are added, until then
+    // the views hold just the icon.
+    handoffReady =
+      assetBudget.put(
+        HANDOFF_ASSET_KEY,
+        estimateBytes(splashIcon, getGeometry().iconSize),
+        () -> mainHandler.post(this::releaseHandoffViews)
+      );
+
+    if (!handoffReady) {
+      splashView = null;
+      iconView = null;
+      splashIcon = null;
+    }
+  }
+
+  // Memory is tight, drop the prebuilt views. If the handoff still happens,
+  // the views will be built then.
+  private void releaseHandoffViews() {
+    if (handoffReady && state.get() == SplashState.LAUNCH) {
+      handoffReady = false;
+      splashView = null;
+      iconView = null;
+      splashIcon = null;
+    }
+  }
+
+  // Replace the launch screen with an identical programmatic splash in the same frame,
+  // with no fade. Later calls to hide() and animate() operate on the programmatic splash.
+  private boolean handOff(@NonNull SplashScreenViewProvider viewProvider) {
+    if (state.get() != SplashState.LAUNCH) {
+      return false;
+    }
+
+    if (!handoffReady) {
+      prebuildHandoffViews();
+
+      // The launch screen exits as if released, so the app's hide()
+      // is not rejected once it has gone.
+      if (!handoffReady) {
+        releaseLaunchScreen(DiagnosticsLog.Event.HANDOFF_FAILED);
+        return false;
+      }
+    }
+
+    handoffReady = false;
+    assetBudget.remove(HANDOFF_ASSET_KEY);
+
+    // The launch icon animation has finished by now, so show the final frame
+    if (splashIcon instanceof AnimatedVectorDrawable) {
+      ((AnimatedVectorDrawable) splashIcon).start();
+      ((AnimatedVectorDrawable) splashIcon).stop();
+    }
+
+    // The view is added while the state is still LAUNCH, so a failure
+    // falls back to the same normal exit as a failed prebuild.
+    WindowManager.LayoutParams params = makeSplashParams();
+
+    try {
+      addSplashView(splashView, params);
+      splashParams = params;
+      getActivity()
+        .getWindow()
+        .getDecorView()
+        .addOnLayoutChangeListener(windowLayoutListener);
+    } catch (IllegalStateException | IllegalArgumentException ex) {
+      splashView = null;
+      iconView = null;
+      splashIcon = null;
+      releaseLaunchScreen(DiagnosticsLog.Event.HANDOFF_FAILED);
+      return false;
+    }
+
+    // hide() or animate() may have arrived in the meantime,
+    // in which case the launch screen exits normally.
+    if (!state.compareAndSet(SplashState.LAUNCH, SplashState.SHOWN)) {
+      detachSplashView();
+      return false;
+    }
+
+    splashView.setAlpha(1f);
+    splashView.setVisibility(View.VISIBLE);
+    webViewPolicy.onCovered(getBridge().getWebView());
+    diagnostics.record(DiagnosticsLog.Event.HANDOFF, null);
+
+    // The failsafe carries over from the launch screen
+    SplashSession launchSession = session;
+    scheduleForcedHide(
+      launchSession,
+      Math.max(maxShowDuration - launchSession.getAge(), 1)
+    );
+
+    // Remove the launch screen once the programmatic splash has drawn,
+    // so there is never a frame with neither of them.
+    splashView
+      .getViewTreeObserver()
+      .addOnDrawListener(
+        new ViewTreeObserver.OnDrawListener() {
+          private boolean removed = false;
+
+          @Override
+          public void onDraw() {
+            if (removed) {
+              return;
+            }
+
+            removed = true;
+            mainHandler.post(() -> {
+              startInfo.launchExited();
+              viewProvider.remove();
+
+              if (splashView != null) {
+                splashView.getViewTreeObserver().removeOnDrawListener(this);
+              }
+            });
+          }
+        }
+      );
+
+    return true;
+  }
+
+  private void releaseLaunchScreen(DiagnosticsLog.Event reason) {
+    if (state.compareAndSet(SplashState.LAUNCH, SplashState.LAUNCH_EXITING)) {
+      launchAutoReleased = true;
+      diagnostics.record(reason, startInfo.type);
+    }
+  }
+
+  private void fadeOutLaunchScreen(
+    @NonNull SplashScreenViewProvider viewProvider
+  ) {
+    // The launch screen may have been released without a call to hide()
+    HideOptions hideOptions = session.hideOptions;
+
+    if (hideOptions == null) {
+      hideOptions = makeHideOptions(new JSObject());
+    }
+
+    if (deviceClass.profile.removeLaunchImmediately) {
+      // Animations are off, skip straight to the end state
+      Window window = getActivity().getWindow();
+      window.setStatusBarColor(statusBarColor);
+      window.setNavigationBarColor(navigationBarColor);
+      removeLaunchScreen(viewProvider);
+      return;
+    }
+
+    View launchView = viewProvider.getView();
+    Animator fadeAnimator;
+
+    // The launch screen exits while the app is still starting up,
+    // which is when a reveal pays off most.
+    if (
+      hideOptions.transition == SplashTransition.Style.REVEAL &&
+      SplashTransition.canReveal(launchView)
+    ) {
+      fadeAnimator =
+        SplashTransition.reveal(
+          launchView,
+          viewProvider.getIconView(),
+          false,
+          hideOptions.fadeOutDuration
+        );
+    } else {
+      fadeAnimator = ObjectAnimator.ofFloat(launchView, View.ALPHA, 1f, 0f);
+      fadeAnimator.setInterpolator(new LinearInterpolator());
+      fadeAnimator.setDuration(hideOptions.fadeOutDuration);
+      fadeAnimator.addListener(makeLayerListener(launchView));
+    }
+
+    fadeAnimator.addListener(
+      new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationEnd(Animator animation) {
+          removeLaunchScreen(viewProvider);
+        }
+      }
+    );
+
+    trackAnimator(fadeAnimator);
+    fadeAnimator.start();
+    int splashScreenBackground = getSplashScreenBackground();
+    trackAnimator(
+      showStatusBar(
+        getActivity(),
+        splashScreenBackground,
+        0,
+        hideOptions.fadeOutDuration,
+        null
+      )
+    );
+    trackAnimator(
+      showNavigationBar(
+        getActivity(),
+        splashScreenBackground,
+        0,
+        hideOptions.fadeOutDuration,
+        null
+      )
+    );
+  }
+
+  private void animateLaunchScreen(SplashScreenViewProvider viewProvider) {
+    AppCompatActivity activity = getActivity();
+    int splashScreenBackground = getSplashScreenBackground();
+
+    AnimationCallbacks callbacks = new AnimationCallbacks() {
+      private void cleanup() {
+        removeLaunchScreen(viewProvider);
+
+        // On API 31+ if we don't do this after removeLaunchScreen()
+        // the navigation bar goes transparent.
+        Window window = getActivity().getWindow();
+        window.setStatusBarColor(statusBarColor);
+        window.setNavigationBarColor(navigationBarColor);
       }
 
       @Override
@@ -364,7 +1252,7 @@ public class SplashScreen extends Plugin {
 
     callHook(
       HookEventType.animateLaunch,
-      animateOptions,
+      session.animateOptions,
       callbacks,
       viewProvider.getView(),
       viewProvider.getIconView()
@@ -374,24 +1262,74 @@ public class SplashScreen extends Plugin {
   private void removeLaunchScreen(
     @NonNull SplashScreenViewProvider viewProvider
   ) {
-    isHiding = false;
-    isLaunchSplash = false;
-    isActive = false;
+    startInfo.launchExited();
+    session.end();
+    pendingProgress = -1f;
+    state.set(SplashState.IDLE);
     viewProvider.remove();
+    endTransition();
+    deferredWork.release();
   }
 
   public void show(JSObject callOptions, AnimationCallbacks callbacks) {
-    if (isActive) {
-      callbacks.error(
-        "A splash screen is already active",
-        ErrorType.ALREADY_ACTIVE
-      );
+    ShowOptions showOptions = makeShowOptions(callOptions);
+    diagnostics.record(
+      DiagnosticsLog.Event.SHOW,
+      showOptions.source,
+      showOptions.delay,
+      showOptions.fadeInDuration,
+      showOptions.showDuration
+    );
+
+    // If a hide is still waiting for its delay, cancel it and leave the splash as is
+    if (state.compareAndSet(SplashState.HIDE_PENDING, SplashState.SHOWN)) {
+      callbacks.setSession(session);
+      getActivity()
+        .runOnUiThread(() -> {
+          scheduler.remove(pendingHideRunner);
+          pendingHideRunner = null;
+
+          // The hide already woke the WebView, the splash covers it again
+          webViewPolicy.onCovered(getBridge().getWebView());
+          finishHide(Outcome.CANCELLED);
+          callbacks.done(Outcome.COALESCED);
+        });
+      return;
+    }
+
+    // If the splash is fading out, fade it back in from where it is
+    if (state.compareAndSet(SplashState.HIDING, SplashState.SHOWING)) {
+      callbacks.setSession(session);
+      getActivity().runOnUiThread(() -> reverseHide(showOptions, callbacks));
+      return;
+    }
+
+    if (!state.compareAndSet(SplashState.IDLE, SplashState.SHOW_PENDING)) {
+      diagnostics.record(DiagnosticsLog.Event.REJECTED, state.get());
+      postAlreadyActive(callbacks);
       return;
     }
 
-    isActive = true;
-    ShowOptions showOptions = new ShowOptions(callOptions, config);
-    logger.debug(showOptions.toString());
+    launchAutoReleased = false;
+    SplashSession showSession = SplashSession.show(
+      showOptions.source,
+      showOptions.showDuration
+    );
+    session = showSession;
+    callbacks.setSession(showSession);
+    showSession.showCallbacks = callbacks;
+
+    if (showOptions.autoHide) {
+      // Hide with the fade out given to show(), the delay was for the show
+      HideOptions autoHideOptions = makeHideOptions(callOptions);
+      autoHideOptions.delay = 0;
+      showSession.autoHide = true;
+      showSession.autoHideOptions = autoHideOptions;
+    }
+
+    scheduleForcedHide(showSession, maxShowDuration);
+
+    deferredWork.hold();
 
     source = callOptions.getString(Options.SOURCE);
 
@@ -401,89 +1339,867 @@ public class SplashScreen extends Plugin {
 
     windowManager =
       (WindowManager) getActivity().getSystemService(Context.WINDOW_SERVICE);
-    AtomicBoolean success = new AtomicBoolean(true);
+
+    // Image files are decoded in the background before the views are built
+    if (SplashImageDecoder.isImageSource(source)) {
+      // The source field belongs to whichever show() came last
+      String imageSource = source;
+
+      getActivity()
+        .runOnUiThread(() -> {
+          // A hide() during the decode cancels the show through these callbacks
+          showCallbacks = callbacks;
+          SplashImageDecoder.decode(
+            context,
+            imageSource,
+            getGeometry().iconSize,
+            new SplashImageDecoder.Listener() {
+              @Override
+              public void decoded(@NonNull SplashImageDecoder.Result result) {
+                // The show may have been cancelled or replaced while decoding
+                if (
+                  session != showSession ||
+                  state.get() != SplashState.SHOW_PENDING
+                ) {
+                  return;
+                }
+
+                showSession.recordDecode(
+                  result.decodeMs,
+                  result.estimatedPeakBytes,
+                  result.animated
+                );
+                diagnostics.record(
+                  DiagnosticsLog.Event.IMAGE_DECODED,
+                  imageSource,
+                  result.decodeMs,
+                  result.estimatedPeakBytes,
+                  result.animated ? 1 : 0
+                );
+                startShow(showOptions, showSession, callbacks, result.drawable);
+              }
+
+              @Override
+              public void failed(@NonNull String message) {
+                diagnostics.record(DiagnosticsLog.Event.ERROR, message);
+
+                // A hide() during the decode has already settled the show
+                if (
+                  session == showSession &&
+                  state.get() == SplashState.SHOW_PENDING
+                ) {
+                  failShow(
+                    showSession,
+                    callbacks,
+                    message,
+                    ErrorType.NOT_FOUND
+                  );
+                }
+              }
+            }
+          );
+        });
+      return;
+    }
 
     getActivity()
-      .runOnUiThread(() -> {
+      .runOnUiThread(() ->
+        startShow(showOptions, showSession, callbacks, null)
+      );
+  }
+
+  // Build the views and schedule the fade in, on the UI thread
+  private void startShow(
+    ShowOptions showOptions,
+    SplashSession showSession,
+    AnimationCallbacks callbacks,
+    Drawable decoded
+  ) {
+    try {
+      buildViews(decoded);
+    } catch (Exception e) {
+      String error = e.getMessage();
+
+      if (error == null) {
+        error = "";
+      }
+
+      String message;
+
+      if (error.isEmpty()) {
+        diagnostics.record(DiagnosticsLog.Event.DRAWABLE_NOT_FOUND, source);
+        message = "No drawable named \"" + source + "\" found";
+      } else {
+        diagnostics.record(DiagnosticsLog.Event.ERROR, error);
+        message = error;
+      }
+
+      ErrorType code = error.isEmpty()
+        ? ErrorType.NOT_FOUND
+        : ErrorType.NO_SPLASH;
+      failShow(showSession, callbacks, message, code);
+      return;
+    }
+
+    if (splashIcon instanceof Animatable) {
+      ((Animatable) splashIcon).start();
+    }
+
+    showCallbacks = callbacks;
+    pendingShowRunner = makeRunner(showOptions);
+    showSession.showRunner = pendingShowRunner;
+    scheduler.postDelayed(pendingShowRunner, showOptions.delay);
+  }
+
+  private void failShow(
+    SplashSession showSession,
+    AnimationCallbacks callbacks,
+    String message,
+    ErrorType code
+  ) {
+    showCallbacks = null;
+    state.compareAndSet(SplashState.SHOW_PENDING, SplashState.IDLE);
+    showSession.end();
+    deferredWork.release();
+    callbacks.error(message, code);
+  }
+
+  public void animate(JSObject callOptions, AnimationCallbacks callbacks) {
+    diagnostics.record(DiagnosticsLog.Event.ANIMATE, state.get());
+
+    // If we're launching, move to the animating state to allow the splash screen to exit
+    if (state.compareAndSet(SplashState.LAUNCH, SplashState.LAUNCH_ANIMATING)) {
+      session.animateOptions = callOptions;
+      callbacks.setSession(session);
+
+      // Prepare while the launch screen waits for its show time to elapse
+      prepareHook(HookEventType.animateLaunch, callOptions);
+      animateCallbacks = callbacks;
+      return;
+    }
+
+    if (!state.compareAndSet(SplashState.SHOWN, SplashState.ANIMATING)) {
+      SplashState current = state.get();
+
+      diagnostics.record(DiagnosticsLog.Event.REJECTED, current);
+
+      if (current == SplashState.IDLE || splashView == null) {
+        postNoSplash(callbacks);
+      } else {
+        postAlreadyActive(callbacks);
+      }
+
+      return;
+    }
+
+    session.animateOptions = callOptions;
+    callbacks.setSession(session);
+    prepareHook(HookEventType.animate, callOptions);
+
+    // Animation needs to call this callback when done to resolve the plugin call
+    AnimationCallbacks animateCallbacks = new AnimationCallbacks() {
+      @Override
+      public void done() {
+        if (state.compareAndSet(SplashState.ANIMATING, SplashState.IDLE)) {
+          removeSplashView();
+        }
+
+        callbacks.done();
+      }
+
+      @Override
+      public void error(String message, ErrorType code) {
+        // Leave the splash up so the app can still hide it
+        state.compareAndSet(SplashState.ANIMATING, SplashState.SHOWN);
+        endTransition();
+        callbacks.error(message, code);
+      }
+
+      @Override
+      public void showStatusBar(
+        long delay,
+        long duration,
+        TimeInterpolator interpolator
+      ) {
+        SplashScreen.showStatusBar(
+          getActivity(),
+          getSplashScreenBackground(),
+          delay,
+          duration,
+          interpolator
+        );
+      }
+
+      @Override
+      public void showNavigationBar(
+        long delay,
+        long duration,
+        TimeInterpolator interpolator
+      ) {
+        SplashScreen.showNavigationBar(
+          getActivity(),
+          getSplashScreenBackground(),
+          delay,
+          duration,
+          interpolator
+        );
+      }
+    };
+
+    getActivity()
+      .runOnUiThread(() ->
+        webViewPolicy.onUncovering(getBridge().getWebView())
+      );
+    callHook(
+      HookEventType.animate,
+      callOptions,
+      animateCallbacks,
+      splashView,
+      iconView
+    );
+  }
+
+  // Freeze everything the splash has in flight while the app is in the background,
+  // so nothing runs or finishes while the user cannot see it.
+  @Override
+  protected void handleOnPause() {
+    super.handleOnPause();
+
+    if (pausedAt != 0) {
+      return;
+    }
+
+    pausedAt = new Date().getTime();
+    scheduler.pause();
+
+    // A reveal runs on the RenderThread and cannot be paused, it just finishes
+    for (Animator animator : liveAnimators) {
+      if (!SplashTransition.isReveal(animator)) {
+        animator.pause();
+      }
+    }
+
+    // Animated drawables cannot be paused, the best we can do is stop them
+    // and start them over on resume.
+    if (
+      splashIcon instanceof Animatable && ((Animatable) splashIcon).isRunning()
+    ) {
+      ((Animatable) splashIcon).stop();
+      splashIconPaused = true;
+    }
+  }
+
+  @Override
+  protected void handleOnResume() {
+    super.handleOnResume();
+
+    if (pausedAt == 0) {
+      return;
+    }
+
+    // The splash's remaining show time does not run down while paused
+    long pausedFor = new Date().getTime() - pausedAt;
+    pausedAt = 0;
+    SplashSession current = session;
+
+    if (current != null && !current.isEnded()) {
+      current.shift(pausedFor);
+    }
+
+    if (splashIconPaused) {
+      splashIconPaused = false;
+
+      if (splashIcon instanceof Animatable) {
+        ((Animatable) splashIcon).start();
+      }
+    }
+
+    for (Animator animator : liveAnimators) {
+      if (!SplashTransition.isReveal(animator)) {
+        animator.resume();
+      }
+    }
+
+    scheduler.resume();
+  }
+
+  @Override
+  public void handleOnDestroy() {
+    tearDown();
+    context.unregisterComponentCallbacks(assetBudget);
+    assetBudget.releaseAll();
+  }
+
+  @Override
+  protected void handleOnConfigurationChanged(Configuration newConfig) {
+    super.handleOnConfigurationChanged(newConfig);
+    relayoutSplash();
+  }
+
+  // If a decoded image is given it is used as the icon, otherwise the icon
+  // is looked up from the source.
+  private void buildViews(Drawable decoded) {
+    Trace.beginSection(SplashTrace.BUILD_VIEWS);
+
+    try {
+      // We are simulating what the Android framework does when it creates a splash screen
+      splashView = new FrameLayout(context);
+      splashView.setPadding(0, 0, 0, 0);
+      splashView.setLayoutParams(
+        new FrameLayout.LayoutParams(
+          FrameLayout.LayoutParams.MATCH_PARENT,
+          FrameLayout.LayoutParams.MATCH_PARENT
+        )
+      );
+
+      // Let the splashView go under the status and navigation bars
+      splashView.setFitsSystemWindows(false);
+
+      // Allow the content to go under the status/navigation bars
+      // and make sure the splash does not move if the status bar appears/disappears
+      splashView.setSystemUiVisibility(
+        View.SYSTEM_UI_FLAG_LAYOUT_STABLE |
+        View.SYSTEM_UI_FLAG_LAYOUT_FULLSCREEN
+      );
+      splashView.setBackgroundColor(getSplashScreenBackground());
+
+      SplashGeometry geometry = getGeometry();
+
+      if (decoded != null) {
+        splashIcon = decoded;
+      } else {
+        int iconId;
+
+        if (source.equals(Options.DEFAULT_SOURCE) && launchIconId != 0) {
+          // We already know the launch icon, no need to look it up by name
+          iconId = launchIconId;
+        } else if (source.equals(Options.DEFAULT_SOURCE)) {
+          // R.attr.windowSplashScreenAnimatedIcon returns a full path,
+          // but getIdentifier() expects a resource name.
+          iconId =
+            getSplashIconId(getLaunchScreenName(splashScreenDrawablePath));
+        } else {
+          iconId = getSplashIconId(source);
+        }
+
+        splashIcon = getSplashIcon(iconId, geometry);
+      }
+
+      iconView = new AppCompatImageView(context);
+      iconView.setImageDrawable(splashIcon);
+      iconView.setScaleType(ImageView.ScaleType.FIT_CENTER);
+
+      FrameLayout.LayoutParams iconParams = new FrameLayout.LayoutParams(
+        geometry.iconSize,
+        geometry.iconSize
+      );
+      iconParams.gravity = Gravity.CENTER;
+      iconView.setLayoutParams(iconParams);
+
+      splashView.addView(iconView);
+
+      // The progress view is only added once progress has been set
+      progressView = null;
+
+      if (pendingProgress >= 0) {
+        addProgressView(geometry);
+        progressView.setProgress(pendingProgress);
+      }
+    } finally {
+      Trace.endSection();
+    }
+  }
+
+  private void addProgressView(SplashGeometry geometry) {
+    int color;
+
+    try {
+      color = Color.parseColor(config.getString(Options.PROGRESS_COLOR, ""));
+    } catch (IllegalArgumentException e) {
+      // Contrast with the background
+      color =
+        ColorUtils.calculateLuminance(getSplashScreenBackground()) > 0.5
+          ? Color.DKGRAY
+          : Color.WHITE;
+    }
+
+    progressView =
+      new SplashProgressView(
+        context,
+        SplashProgressView.Style.fromCode(
+          config.getString(Options.PROGRESS_STYLE, null)
+        ),
+        color
+      );
+    progressView.setLayoutParams(
+      progressView.makeLayoutParams(geometry.iconSize)
+    );
+    splashView.addView(progressView);
+  }
+
+  // Apply the latest progress value, on the first frame after it was set
+  private void applyProgress() {
+    progressFrameScheduled.set(false);
+    float value = pendingProgress;
+
+    // Without a splash the value waits for the next one to be built
+    if (splashView == null || value < 0) {
+      return;
+    }
+
+    if (progressView == null) {
+      addProgressView(getGeometry());
+    }
+
+    progressView.setProgress(value);
+  }
+
+  // Reuse the constant state of a drawable inflated by a previous show()
+  // so it does not have to be inflated again.
+  private Drawable getSplashIcon(int iconId, SplashGeometry geometry) {
+    String key = SplashPrewarm.makeIconKey(
+      iconId,
+      context.getResources().getConfiguration()
+    );
+    Drawable.ConstantState cached = drawableCache.get(key);
+
+    if (cached != null && assetBudget.touch(key)) {
+      diagnostics.record(DiagnosticsLog.Event.ICON_REUSED, source);
+      return cached.newDrawable(context.getResources(), context.getTheme());
+    }
+
+    Drawable drawable = ResourcesCompat.getDrawable(
+      context.getResources(),
+      iconId,
+      context.getTheme()
+    );
+
+    if (drawable != null && drawable.getConstantState() != null) {
+      long bytes = estimateBytes(drawable, geometry.iconSize);
+      diagnostics.record(DiagnosticsLog.Event.ICON_INFLATED, source, bytes);
+
+      if (assetBudget.put(key, bytes, () -> drawableCache.remove(key))) {
+        drawableCache.put(key, drawable.getConstantState());
+      }
+    }
+
+    return drawable;
+  }
+
+  // Bitmaps cost what they allocate, anything else is rasterized at the icon size
+  private static long estimateBytes(Drawable drawable, int iconSize) {
+    if (drawable instanceof BitmapDrawable) {
+      Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+
+      if (bitmap != null) {
+        return bitmap.getAllocationByteCount();
+      }
+    }
+
+    return (long) iconSize * iconSize * 4;
+  }
+
+  private SplashGeometry getGeometry() {
+    return sizer.getGeometry(getActivity());
+  }
+
+  // Called on the UI thread when the configuration or window size changes.
+  // The existing views are resized, nothing is rebuilt and running animations continue.
+  private void relayoutSplash() {
+    if (
+      splashView == null || splashParams == null || splashView.getParent() == null
+    ) {
+      return;
+    }
+
+    SplashGeometry geometry = getGeometry();
+    ViewGroup.LayoutParams iconParams = iconView.getLayoutParams();
+
+    if (iconParams.width != geometry.iconSize) {
+      iconParams.width = geometry.iconSize;
+      iconParams.height = geometry.iconSize;
+      iconView.setLayoutParams(iconParams);
+
+      if (progressView != null) {
+        progressView.setLayoutParams(
+          progressView.makeLayoutParams(geometry.iconSize)
+        );
+      }
+    }
+
+    if (splashParams.height != geometry.height) {
+      splashParams.height = geometry.height;
+
+      try {
+        windowManager.updateViewLayout(splashView, splashParams);
+      } catch (IllegalArgumentException ex) {
+        diagnostics.record(
+          DiagnosticsLog.Event.ERROR,
+          "Could not resize splash view"
+        );
+      }
+    }
+  }
+
+  private int getSplashScreenBackground() {
+    // Get the configured splash screen background color
+    TypedArray attrs = launchTheme.obtainStyledAttributes(
+      new int[] { R.attr.windowSplashScreenBackground }
+    );
+
+    int background = attrs.getInt(0, 0);
+    attrs.recycle();
+
+    return background;
+  }
+
+  private String getLaunchScreenName(String launchScreenPath)
+    throws Resources.NotFoundException {
+    if (launchScreenPath != null) {
+      File file = new File(launchScreenPath);
+      String name = file.getName();
+      return name.substring(0, name.lastIndexOf('.'));
+    } else {
+      throw new Resources.NotFoundException(
+        "No windowSplashScreenAnimatedIcon attribute found in launch theme"
+      );
+    }
+  }
+
+  private int getSplashIconId(String iconName) {
+    int iconId = context
+      .getResources()
+      .getIdentifier(iconName, "drawable", context.getPackageName());
+
+    if (iconId == 0) {
+      throw new Resources.NotFoundException(
+        String.format(Locale.ROOT, "No drawable named \"%s\" found", iconName)
+      );
+    }
+
+    return iconId;
+  }
+
+  private Runnable makeRunner(final ShowOptions showOptions) {
+    return () -> {
+      Trace.beginSection(SplashTrace.SHOW_RUNNER);
+
+      try {
+        pendingShowRunner = null;
+
+        // hide() may have cancelled the show while we were waiting
+        if (
+          !state.compareAndSet(SplashState.SHOW_PENDING, SplashState.SHOWING)
+        ) {
+          return;
+        }
+
+        WindowManager.LayoutParams params = makeSplashParams();
+
         try {
-          buildViews();
-        } catch (Exception e) {
-          String error = e.getMessage();
+          addSplashView(splashView, params);
+          splashParams = params;
+          getActivity()
+            .getWindow()
+            .getDecorView()
+            .addOnLayoutChangeListener(windowLayoutListener);
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+          getLogger().error("Could not add splash view");
+        }
+
+        if (showOptions.transition == SplashTransition.Style.REVEAL) {
+          // The reveal needs the view's size, so it starts with the first frame
+          View view = splashView;
+          splashView.setAlpha(1f);
+          splashView.setVisibility(View.VISIBLE);
+          SplashTransition.beforeFirstDraw(
+            view,
+            () -> {
+              // hide() may have turned the show around before the first frame
+              if (splashView == view && state.get() == SplashState.SHOWING) {
+                // Without a reveal the fade has to start from nothing
+                if (!SplashTransition.canReveal(view)) {
+                  view.setAlpha(0f);
+                }
+
+                fadeInSplashView(
+                  showOptions.fadeInDuration,
+                  Outcome.COMPLETED,
+                  SplashTransition.Style.REVEAL
+                );
+              }
+            }
+          );
+        } else {
+          splashView.setAlpha(0f);
+          splashView.setVisibility(View.VISIBLE);
+          fadeInSplashView(
+            showOptions.fadeInDuration,
+            Outcome.COMPLETED,
+            SplashTransition.Style.FADE
+          );
+        }
+      } finally {
+        Trace.endSection();
+      }
+    };
+  }
 
-          if (error == null) {
-            error = "";
+  private WindowManager.LayoutParams makeSplashParams() {
+    WindowManager.LayoutParams params = new WindowManager.LayoutParams();
+    params.flags = getActivity().getWindow().getAttributes().flags;
+    params.gravity = Gravity.CENTER;
+
+    // Required to enable the view to actually fade
+    params.format = PixelFormat.TRANSLUCENT;
+    return params;
+  }
+
+  private void fadeInSplashView(
+    long duration,
+    Outcome outcome,
+    SplashTransition.Style transition
+  ) {
+    beginTransition();
+    splashAnimator = makeSplashAnimator(true, duration, transition);
+    splashAnimator.addListener(
+      new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationEnd(Animator animation) {
+          Trace.beginSection(SplashTrace.FADE_IN_END);
+
+          try {
+            if (state.compareAndSet(SplashState.SHOWING, SplashState.SHOWN)) {
+              splashAnimator = null;
+              session.markVisible();
+              webViewPolicy.onCovered(getBridge().getWebView());
+              endTransition();
+              finishShow(outcome);
+              scheduleAutoHide(session);
+            }
+          } finally {
+            Trace.endSection();
           }
+        }
+      }
+    );
+    trackAnimator(splashAnimator);
+    splashAnimator.start();
+
+    addBarAnimator(
+      hideStatusBar(
+        getActivity(),
+        getSplashScreenBackground(),
+        0,
+        duration,
+        null
+      )
+    );
+    addBarAnimator(
+      hideNavigationBar(
+        getActivity(),
+        getSplashScreenBackground(),
+        0,
+        duration,
+        null
+      )
+    );
+  }
 
-          String message = error.isEmpty()
-            ? String.format(
-              Locale.getDefault(),
-              "No drawable named \"%s\" found",
-              source
+  private void fadeOutSplashView(
+    long duration,
+    Outcome outcome,
+    SplashTransition.Style transition
+  ) {
+    beginTransition();
+    splashAnimator = makeSplashAnimator(false, duration, transition);
+    splashAnimator.addListener(
+      new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationStart(Animator animation) {
+          addBarAnimator(
+            showStatusBar(
+              getActivity(),
+              getSplashScreenBackground(),
+              0,
+              duration,
+              null
+            )
+          );
+          addBarAnimator(
+            showNavigationBar(
+              getActivity(),
+              getSplashScreenBackground(),
+              0,
+              duration,
+              null
             )
-            : error;
-          logger.error(message);
-
-          ErrorType code = error.isEmpty()
-            ? ErrorType.NOT_FOUND
-            : ErrorType.NO_SPLASH;
-          postError(callbacks, message, code);
-          success.set(false);
+          );
         }
 
-        if (!success.get()) {
-          return;
+        @Override
+        public void onAnimationEnd(Animator animation) {
+          Trace.beginSection(SplashTrace.FADE_OUT_END);
+
+          try {
+            if (state.compareAndSet(SplashState.HIDING, SplashState.IDLE)) {
+              removeSplashView();
+              finishHide(outcome);
+            }
+          } finally {
+            Trace.endSection();
+          }
         }
+      }
+    );
+    trackAnimator(splashAnimator);
+    splashAnimator.start();
+  }
 
-        if (splashIcon instanceof AnimatedVectorDrawable) {
-          ((AnimatedVectorDrawable) splashIcon).start();
+  // A reveal runs on the RenderThread, but it can only start from a fully
+  // opaque splash, so a fade that was interrupted is finished with a fade.
+  private Animator makeSplashAnimator(
+    boolean entering,
+    long duration,
+    SplashTransition.Style transition
+  ) {
+    if (
+      transition == SplashTransition.Style.REVEAL &&
+      splashView.getAlpha() == 1f &&
+      SplashTransition.canReveal(splashView)
+    ) {
+      return SplashTransition.reveal(splashView, iconView, entering, duration);
+    }
+
+    float alpha = splashView.getAlpha();
+    ObjectAnimator animator = ObjectAnimator.ofFloat(
+      splashView,
+      View.ALPHA,
+      alpha,
+      entering ? 1f : 0f
+    );
+    animator.setInterpolator(new LinearInterpolator());
+    animator.setDuration(duration);
+    animator.addListener(makeLayerListener(splashView));
+    return animator;
+  }
+
+  // On capable devices, fade through a hardware layer so each frame
+  // only composites the layer instead of redrawing the splash.
+  private Animator.AnimatorListener makeLayerListener(View view) {
+    boolean useLayer = deviceClass.profile.useHardwareLayer;
+
+    return new AnimatorListenerAdapter() {
+      @Override
+      public void onAnimationStart(Animator animation) {
+        if (useLayer) {
+          view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        }
+      }
+
+      @Override
+      public void onAnimationEnd(Animator animation) {
+        if (useLayer) {
+          view.setLayerType(View.LAYER_TYPE_NONE, null);
         }
+      }
+    };
+  }
 
-        final Animator.AnimatorListener listener = makeShowAnimationListener(
-          callbacks
-        );
+  // Once a splash shown with autoHide is fully visible, hide it after showDuration
+  private void scheduleAutoHide(SplashSession target) {
+    HideOptions hideOptions = target.autoHideOptions;
 
-        final Handler mainHandler = new Handler(getActivity().getMainLooper());
+    if (hideOptions == null) {
+      return;
+    }
 
-        mainHandler.postDelayed(
-          makeRunner(showOptions, listener),
-          showOptions.delay
-        );
-      });
+    target.autoHideOptions = null;
+    scheduler.postDelayed(
+      () -> {
+        // The app may have hidden it already, or shown another
+        if (session == target && state.get() == SplashState.SHOWN) {
+          diagnostics.record(
+            DiagnosticsLog.Event.AUTO_HIDE,
+            null,
+            target.showDuration
+          );
+          target.autoHidden = true;
+          hide(hideOptions, makeSilentCallbacks());
+        }
+      },
+      target.showDuration
+    );
   }
 
-  public void animate(JSObject callOptions, AnimationCallbacks callbacks) {
-    if (isAlreadyHiding(callbacks)) {
+  private void scheduleForcedHide(SplashSession target, long delay) {
+    if (maxShowDuration <= 0) {
       return;
     }
 
-    // If we're launching, just set the hiding flag to allow the splash screen to exit
-    if (isLaunchSplash) {
-      animateCallbacks = callbacks;
-      animateOptions = callOptions;
-      isHiding = true;
-      return;
-    }
+    scheduler.postDelayed(() -> forceHide(target), delay);
+  }
 
-    if (splashView == null) {
-      postError(
-        callbacks,
-        "No splash screen view is available",
-        ErrorType.NO_SPLASH
-      );
+  // The splash has been up longer than maxShowDuration: remove it immediately,
+  // whatever it is doing, so a hung app is not left behind a full screen window.
+  private void forceHide(SplashSession target) {
+    if (session != target || target.isEnded()) {
       return;
     }
 
-    // Animation needs to call this callback when done to resolve the plugin call
-    AnimationCallbacks animateCallbacks = new AnimationCallbacks() {
+    SplashState current = state.get();
+    target.forced = true;
+
+    scheduler.remove(pendingShowRunner);
+    pendingShowRunner = null;
+    scheduler.remove(pendingHideRunner);
+    pendingHideRunner = null;
+    cancelAnimations();
+    state.set(SplashState.IDLE);
+    removeSplashView();
+
+    // The bar animations were cancelled partway
+    Window window = getActivity().getWindow();
+    window.setStatusBarColor(statusBarColor);
+    window.setNavigationBarColor(navigationBarColor);
+
+    finishShow(Outcome.CANCELLED);
+    finishHide(Outcome.CANCELLED);
+    reportForcedHide(target, current);
+  }
+
+  private void reportForcedHide(SplashSession target, SplashState current) {
+    long age = target.getAge();
+    diagnostics.record(DiagnosticsLog.Event.FORCED_HIDE, current, age);
+    getLogger().warn(
+      String.format(
+        Locale.ROOT,
+        "splash session %d removed after %d ms in state %s",
+        target.id,
+        age,
+        current
+      )
+    );
+
+    JSObject event = new JSObject();
+    event.put("sessionId", target.id);
+    event.put("kind", target.kind.getCode());
+    event.put("state", current.name());
+    event.put("elapsedMs", age);
+    event.put("maxShowDuration", maxShowDuration);
+    notifyListeners("forcedHide", event);
+  }
+
+  // For hides the plugin makes on its own: the bars are restored as usual,
+  // but nobody is waiting for the result.
+  private AnimationCallbacks makeSilentCallbacks() {
+    return new AnimationCallbacks() {
       @Override
-      public void done() {
-        tearDown();
-        callbacks.done();
-      }
+      public void done() {}
 
       @Override
       public void error(String message, ErrorType code) {
-        postError(callbacks, message, code);
+        getLogger().warn(message);
       }
 
       @Override
@@ -516,234 +2232,253 @@ public class SplashScreen extends Plugin {
         );
       }
     };
-
-    callHook(
-      HookEventType.animate,
-      callOptions,
-      animateCallbacks,
-      splashView,
-      iconView
-    );
   }
 
-  private long getRemainingShowTime(long startTime) {
-    long timeSinceStart = new Date().getTime() - startTime;
-    return Math.max(splashScreenDuration - timeSinceStart, 0);
-  }
+  // A splash transition is starting or ending: boost the main thread
+  // and ask for a fast display mode while it runs, if enabled.
+  private void beginTransition() {
+    transitionBoost.begin();
 
-  @Override
-  public void handleOnDestroy() {
-    tearDown();
+    if (displayModeRequest != null) {
+      AppCompatActivity activity = getActivity();
+      displayModeRequest.request(
+        activity.getWindow(),
+        activity.getWindowManager(),
+        splashView,
+        splashParams
+      );
+    }
   }
 
-  private void buildViews() {
-    // We are simulating what the Android framework does when it creates a splash screen
-    splashView = new FrameLayout(context);
-    splashView.setPadding(0, 0, 0, 0);
-    splashView.setLayoutParams(
-      new FrameLayout.LayoutParams(
-        FrameLayout.LayoutParams.MATCH_PARENT,
-        FrameLayout.LayoutParams.MATCH_PARENT
-      )
-    );
-
-    // Let the splashView go under the status and navigation bars
-    splashView.setFitsSystemWindows(false);
-
-    // Allow the content to go under the status/navigation bars
-    // and make sure the splash does not move if the status bar appears/disappears
-    splashView.setSystemUiVisibility(
-      View.SYSTEM_UI_FLAG_LAYOUT_STABLE | View.SYSTEM_UI_FLAG_LAYOUT_FULLSCREEN
-    );
-    splashView.setBackgroundColor(getSplashScreenBackground());
-
-    String iconName;
+  private void endTransition() {
+    long windowMs = transitionBoost.end();
 
-    if (source.equals(Options.DEFAULT_SOURCE)) {
-      // R.attr.windowSplashScreenAnimatedIcon returns a full path,
-      // but getIdentifier() expects a resource name.
-      iconName = getLaunchScreenName(splashScreenDrawablePath);
-    } else {
-      iconName = source;
+    if (windowMs >= 0) {
+      diagnostics.record(DiagnosticsLog.Event.BOOST_ENDED, null, windowMs);
     }
 
-    int iconId = getSplashIconId(iconName);
-    splashIcon =
-      ResourcesCompat.getDrawable(
-        context.getResources(),
-        iconId,
-        context.getTheme()
+    if (displayModeRequest != null) {
+      AppCompatActivity activity = getActivity();
+      displayModeRequest.release(
+        activity.getWindow(),
+        activity.getWindowManager(),
+        splashView,
+        splashParams
       );
-    iconView = new AppCompatImageView(context);
-    iconView.setImageDrawable(splashIcon);
-    iconView.setScaleType(ImageView.ScaleType.FIT_CENTER);
+    }
+  }
 
-    // I can't quite figure out the sizing algorithm for the splash icon.
-    // Closest I can get is 70% of the screen width for screen sizes above 1024,
-    // 80% of the width for screen sizes below 1024.
-    Point size = new Point();
-    getActivity().getWindowManager().getDefaultDisplay().getRealSize(size);
-    int factor = size.x >= 1024 ? 7 : 8;
+  // Keep track of a running animator until it ends, so it can be paused with the app
+  private void trackAnimator(Animator animator) {
+    liveAnimators.add(animator);
+
+    // A reveal cannot be paused, as in handleOnPause()
+    if (pausedAt != 0 && !SplashTransition.isReveal(animator)) {
+      animator.pause();
+    }
 
-    FrameLayout.LayoutParams iconParams = new FrameLayout.LayoutParams(
-      size.x * factor / 10,
-      size.x * factor / 10
+    animator.addListener(
+      new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationEnd(Animator animation) {
+          liveAnimators.remove(animation);
+        }
+      }
     );
-    iconParams.gravity = Gravity.CENTER;
-    iconView.setLayoutParams(iconParams);
+  }
 
-    splashView.addView(iconView);
+  private void addBarAnimator(ValueAnimator animator) {
+    barAnimators.add(animator);
+    trackAnimator(animator);
   }
 
-  private int getSplashScreenBackground() {
-    // Get the configured splash screen background color
-    TypedArray attrs = launchTheme.obtainStyledAttributes(
-      new int[] { R.attr.windowSplashScreenBackground }
-    );
+  // Stop the splash and bar animations in their tracks without firing their listeners
+  private void cancelAnimations() {
+    if (splashAnimator != null) {
+      liveAnimators.remove(splashAnimator);
+      splashAnimator.removeAllListeners();
+      splashAnimator.cancel();
+      splashAnimator = null;
+    }
 
-    int background = attrs.getInt(0, 0);
-    attrs.recycle();
+    for (ValueAnimator animator : barAnimators) {
+      animator.cancel();
+    }
 
-    return background;
+    barAnimators.clear();
   }
 
-  private String getLaunchScreenName(String launchScreenPath)
-    throws Resources.NotFoundException {
-    if (launchScreenPath != null) {
-      File file = new File(launchScreenPath);
-      String name = file.getName();
-      return name.substring(0, name.lastIndexOf('.'));
-    } else {
-      throw new Resources.NotFoundException(
-        "No windowSplashScreenAnimatedIcon attribute found in launch theme"
-      );
-    }
+  // A fade in scaled to the distance the splash still has to travel
+  private long remainingDuration(long duration, float distance) {
+    return (long) (duration * Math.max(0f, Math.min(distance, 1f)));
   }
 
-  private int getSplashIconId(String iconName) {
-    int iconId = context
-      .getResources()
-      .getIdentifier(iconName, "drawable", context.getPackageName());
+  private void finishShow(Outcome outcome) {
+    diagnostics.record(DiagnosticsLog.Event.SHOW_DONE, outcome);
+    barAnimators.clear();
 
-    if (iconId == 0) {
-      throw new Resources.NotFoundException(
-        String.format("No drawable named \"%s\" found", iconName)
-      );
+    if (showCallbacks != null) {
+      AnimationCallbacks callbacks = showCallbacks;
+      showCallbacks = null;
+      callbacks.done(outcome);
     }
-
-    return iconId;
   }
 
-  private Runnable makeRunner(
-    final ShowOptions showOptions,
-    final Animator.AnimatorListener listener
-  ) {
-    return () -> {
-      WindowManager.LayoutParams params = new WindowManager.LayoutParams();
-      params.flags = getActivity().getWindow().getAttributes().flags;
-      params.gravity = Gravity.CENTER;
+  private void finishHide(Outcome outcome) {
+    diagnostics.record(DiagnosticsLog.Event.HIDE_DONE, outcome);
+    barAnimators.clear();
 
-      // Required to enable the view to actually fade
-      params.format = PixelFormat.TRANSLUCENT;
-      fadeInSplashView(params, showOptions, listener);
-    };
+    if (hideCallbacks != null) {
+      AnimationCallbacks callbacks = hideCallbacks;
+      hideCallbacks = null;
+      callbacks.done(outcome);
+    }
   }
 
-  private void fadeInSplashView(
-    WindowManager.LayoutParams params,
+  // show() arrived while the splash was fading out: fade back in from the current alpha
+  private void reverseHide(
     ShowOptions showOptions,
-    Animator.AnimatorListener listener
+    AnimationCallbacks callbacks
   ) {
-    try {
-      addSplashView(splashView, params);
-    } catch (IllegalStateException | IllegalArgumentException ex) {
-      logger.error("Could not add splash view");
-    }
-
-    splashView.setAlpha(0f);
-    splashView.setVisibility(View.VISIBLE);
-    splashView
-      .animate()
-      .alpha(1f)
-      .setInterpolator(new LinearInterpolator())
-      .setDuration(showOptions.fadeInDuration)
-      .setListener(listener);
-
-    hideStatusBar(
-      getActivity(),
-      getSplashScreenBackground(),
-      0,
-      showOptions.fadeInDuration,
-      null
+    cancelAnimations();
+    finishHide(Outcome.CANCELLED);
+    showCallbacks = callbacks;
+    fadeInSplashView(
+      remainingDuration(
+        showOptions.fadeInDuration,
+        1f - splashView.getAlpha()
+      ),
+      Outcome.COALESCED,
+      SplashTransition.Style.FADE
     );
-    hideNavigationBar(
-      getActivity(),
-      getSplashScreenBackground(),
-      0,
-      showOptions.fadeInDuration,
-      null
+  }
+
+  // hide() arrived while the splash was fading in: fade out from the current alpha
+  private void interruptShow(
+    HideOptions hideOptions,
+    AnimationCallbacks callbacks
+  ) {
+    cancelAnimations();
+    finishShow(Outcome.CANCELLED);
+    webViewPolicy.onUncovering(getBridge().getWebView());
+    hideCallbacks = callbacks;
+    fadeOutSplashView(
+      remainingDuration(hideOptions.fadeOutDuration, splashView.getAlpha()),
+      Outcome.COALESCED,
+      SplashTransition.Style.FADE
     );
   }
 
-  public static void hideStatusBar(
+  public static ValueAnimator hideStatusBar(
     AppCompatActivity activity,
     int endColor,
     long delay,
     long duration,
     TimeInterpolator interpolator
   ) {
-    ValueAnimator animation = ValueAnimator.ofArgb(statusBarColor, endColor);
-    ColorUpdater updater = color ->
-      activity.getWindow().setStatusBarColor(color);
-    showHide(animation, delay, duration, interpolator, updater);
+    return animateBar(
+      activity,
+      BarScrims.Bar.STATUS,
+      statusBarColor,
+      endColor,
+      delay,
+      duration,
+      interpolator
+    );
   }
 
-  public static void showStatusBar(
+  public static ValueAnimator showStatusBar(
     AppCompatActivity activity,
     int startColor,
     long delay,
     long duration,
     TimeInterpolator interpolator
   ) {
-    ValueAnimator animation = ValueAnimator.ofArgb(startColor, statusBarColor);
-    ColorUpdater updater = color ->
-      activity.getWindow().setStatusBarColor(color);
-    showHide(animation, delay, duration, interpolator, updater);
+    return animateBar(
+      activity,
+      BarScrims.Bar.STATUS,
+      startColor,
+      statusBarColor,
+      delay,
+      duration,
+      interpolator
+    );
   }
 
-  public static void hideNavigationBar(
+  public static ValueAnimator hideNavigationBar(
     AppCompatActivity activity,
     int endColor,
     long delay,
     long duration,
     TimeInterpolator interpolator
   ) {
-    ValueAnimator animation = ValueAnimator.ofArgb(
+    return animateBar(
+      activity,
+      BarScrims.Bar.NAVIGATION,
       navigationBarColor,
-      endColor
+      endColor,
+      delay,
+      duration,
+      interpolator
     );
-    ColorUpdater updater = color ->
-      activity.getWindow().setNavigationBarColor(color);
-    showHide(animation, delay, duration, interpolator, updater);
   }
 
-  public static void showNavigationBar(
+  public static ValueAnimator showNavigationBar(
     AppCompatActivity activity,
     int startColor,
     long delay,
     long duration,
     TimeInterpolator interpolator
   ) {
-    ValueAnimator animation = ValueAnimator.ofArgb(
+    return animateBar(
+      activity,
+      BarScrims.Bar.NAVIGATION,
       startColor,
-      navigationBarColor
+      navigationBarColor,
+      delay,
+      duration,
+      interpolator
     );
-    ColorUpdater updater = color ->
-      activity.getWindow().setNavigationBarColor(color);
-    showHide(animation, delay, duration, interpolator, updater);
   }
 
-  private static void showHide(
+  // With bar scrims, the window's bar color is set once and a scrim fades
+  // over it, otherwise the bar color is set on every frame.
+  private static ValueAnimator animateBar(
+    AppCompatActivity activity,
+    BarScrims.Bar bar,
+    int fromColor,
+    int toColor,
+    long delay,
+    long duration,
+    TimeInterpolator interpolator
+  ) {
+    Window window = activity.getWindow();
+
+    if (
+      useBarScrims &&
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.M &&
+      BarScrims.canScrim(window)
+    ) {
+      return BarScrims.animate(
+        window,
+        scrimHost.get(),
+        bar,
+        fromColor,
+        toColor,
+        delay,
+        duration,
+        interpolator
+      );
+    }
+
+    ValueAnimator animation = ValueAnimator.ofArgb(fromColor, toColor);
+    ColorUpdater updater = bar == BarScrims.Bar.STATUS
+      ? window::setStatusBarColor
+      : window::setNavigationBarColor;
+    return showHide(animation, delay, duration, interpolator, updater);
+  }
+
+  private static ValueAnimator showHide(
     ValueAnimator animation,
     long delay,
     long duration,
@@ -757,108 +2492,135 @@ public class SplashScreen extends Plugin {
       updater.update((int) animator.getAnimatedValue())
     );
     animation.start();
+    return animation;
   }
 
-  private Animator.AnimatorListener makeShowAnimationListener(
-    AnimationCallbacks callbacks
-  ) {
-    return new Animator.AnimatorListener() {
-      @Override
-      public void onAnimationEnd(Animator animator) {
-        callbacks.done();
-      }
-
-      @Override
-      public void onAnimationCancel(Animator animator) {}
-
-      @Override
-      public void onAnimationRepeat(Animator animator) {}
-
-      @Override
-      public void onAnimationStart(Animator animator) {}
-    };
+  /**
+   * Hide the splash screen with the default options
+   */
+  public void hide(AnimationCallbacks callbacks) {
+    hide(makeHideOptions(new JSObject()), callbacks);
   }
 
   /**
    * Hide the splash screen with the given options
    */
-  public void hide(AnimationCallbacks callbacks) {
-    // If we're already hiding, do nothing
-    if (isAlreadyHiding(callbacks)) {
-      return;
-    }
+  public void hide(HideOptions hideOptions, AnimationCallbacks callbacks) {
+    diagnostics.record(
+      DiagnosticsLog.Event.HIDE,
+      hideOptions.delay,
+      hideOptions.fadeOutDuration
+    );
 
-    isHiding = true;
+    // The session this call acts on if it is accepted
+    SplashSession target = session;
 
-    // If we are launching, setting isHiding is all we need, there is nothing more to do
-    if (isLaunchSplash) {
+    // If we are launching, releasing the launch screen is all we need, there is nothing more to do
+    if (state.compareAndSet(SplashState.LAUNCH, SplashState.LAUNCH_EXITING)) {
+      target.hideOptions = hideOptions;
+      callbacks.setSession(target);
       callbacks.done();
       return;
     }
 
-    // If the splashView has not been created, complain and return, there is nothing to hide
-    if (splashView == null) {
-      postError(
-        callbacks,
-        "No splash screen view is available",
-        ErrorType.NO_SPLASH
-      );
+    // The launch screen already left on its own, so the app's usual hide() has nothing to do
+    SplashState current = state.get();
 
+    if (
+      launchAutoReleased &&
+      (current == SplashState.LAUNCH_EXITING || current == SplashState.IDLE)
+    ) {
+      callbacks.setSession(target);
+      callbacks.done(Outcome.COALESCED);
       return;
     }
 
-    int delay = hideOptions.delay;
-    int fadeOutDuration = hideOptions.fadeOutDuration;
+    // Likewise if the plugin already hid the splash on its own
+    if (
+      target != null &&
+      (target.autoHidden || target.forced) &&
+      (
+        current == SplashState.LAUNCH_EXITING ||
+        current == SplashState.HIDING ||
+        current == SplashState.IDLE
+      )
+    ) {
+      callbacks.setSession(target);
+      callbacks.done(Outcome.COALESCED);
+      return;
+    }
 
-    final Animator.AnimatorListener listener = new Animator.AnimatorListener() {
-      private void done() {
-        tearDown();
-        callbacks.done();
-      }
+    // If the show is still waiting for its delay, cancel it outright
+    if (state.compareAndSet(SplashState.SHOW_PENDING, SplashState.IDLE)) {
+      callbacks.setSession(target);
+      getActivity()
+        .runOnUiThread(() -> {
+          cancelShow(target);
+          callbacks.done(Outcome.COALESCED);
+        });
+      return;
+    }
 
-      @Override
-      public void onAnimationEnd(Animator animator) {
-        this.done();
-      }
+    // If the splash is fading in, turn around and fade out from where it is
+    if (state.compareAndSet(SplashState.SHOWING, SplashState.HIDING)) {
+      target.hideOptions = hideOptions;
+      callbacks.setSession(target);
+      getActivity()
+        .runOnUiThread(() -> interruptShow(hideOptions, callbacks));
+      return;
+    }
 
-      @Override
-      public void onAnimationCancel(Animator animator) {
-        this.done();
-      }
+    if (!state.compareAndSet(SplashState.SHOWN, SplashState.HIDE_PENDING)) {
+      diagnostics.record(DiagnosticsLog.Event.REJECTED, state.get());
 
-      @Override
-      public void onAnimationStart(Animator animator) {
-        showStatusBar(
-          getActivity(),
-          getSplashScreenBackground(),
-          0,
-          fadeOutDuration,
-          null
-        );
-        showNavigationBar(
-          getActivity(),
-          getSplashScreenBackground(),
-          0,
-          fadeOutDuration,
-          null
-        );
+      // If the splashView has not been created, complain and return, there is nothing to hide
+      if (state.get() == SplashState.IDLE) {
+        postNoSplash(callbacks);
+      } else {
+        // We are already hiding
+        postAlreadyActive(callbacks);
       }
 
-      @Override
-      public void onAnimationRepeat(Animator animator) {}
-    };
+      return;
+    }
 
-    Handler mainHandler = new Handler(context.getMainLooper());
-    mainHandler.postDelayed(
-      () ->
-        splashView
-          .animate()
-          .alpha(0)
-          .setInterpolator(new LinearInterpolator())
-          .setDuration(fadeOutDuration)
-          .setListener(listener),
-      delay
-    );
+    target.hideOptions = hideOptions;
+    callbacks.setSession(target);
+    int delay = hideOptions.delay;
+    int fadeOutDuration = hideOptions.fadeOutDuration;
+    SplashTransition.Style transition = hideOptions.transition;
+
+    getActivity()
+      .runOnUiThread(() -> {
+        // Get the WebView ready to be seen before the fade starts
+        webViewPolicy.onUncovering(getBridge().getWebView());
+        hideCallbacks = callbacks;
+        pendingHideRunner =
+          () -> {
+            Trace.beginSection(SplashTrace.HIDE_RUNNER);
+
+            try {
+              pendingHideRunner = null;
+
+              // show() may have cancelled the hide while we were waiting
+              if (
+                state.compareAndSet(
+                  SplashState.HIDE_PENDING,
+                  SplashState.HIDING
+                )
+              ) {
+                fadeOutSplashView(
+                  fadeOutDuration,
+                  Outcome.COMPLETED,
+                  transition
+                );
+              }
+            } finally {
+              Trace.endSection();
+            }
+          };
+        scheduler.postDelayed(pendingHideRunner, delay);
+      });
   }
 
   public void callHook(
@@ -868,9 +2630,12 @@ public class SplashScreen extends Plugin {
     View splashView,
     View iconView
   ) {
-    if (eventHandler == null) {
+    if (getEventHandler() == null) {
       if (eventType == HookEventType.animate) {
         callbacks.done();
+      } else {
+        // exitLaunchScreen() began a transition that no hook will end
+        endTransition();
       }
 
       return;
@@ -879,20 +2644,86 @@ public class SplashScreen extends Plugin {
     int delay = toMilliseconds(callOptions.optDouble(Options.DELAY, .0));
     callOptions.remove(Options.DELAY);
 
-    Handler mainHandler = new Handler(getActivity().getMainLooper());
-    mainHandler.postDelayed(
-      () -> doCallHook(eventType, callOptions, callbacks, splashView, iconView),
-      delay + getRemainingShowTime(launchStartTime)
+    SplashSession target = session;
+    HookPreparation preparation = target.preparation;
+    target.preparation = null;
+
+    Runnable run = () ->
+      doCallHook(
+        eventType,
+        callOptions,
+        callbacks,
+        splashView,
+        iconView,
+        preparation
+      );
+
+    // The launch screen, or a splash shown with autoHide, stays up for the
+    // rest of its show duration. Any other splash is the app's to time.
+    long wait = delay;
+
+    if (target.kind == SplashSession.Kind.LAUNCH || target.autoHide) {
+      wait += target.remainingShowTime();
+    }
+
+    // If the prepare phase is still running when the animation is due,
+    // the animation starts as soon as it is done.
+    scheduler.postDelayed(
+      () -> {
+        if (preparation == null) {
+          run.run();
+        } else {
+          preparation.whenDone(run);
+        }
+      },
+      wait
     );
   }
 
+  // Start the prepare phase of the hook in the background, if the app has one
+  private void prepareHook(HookEventType eventType, JSObject callOptions) {
+    Method handler = getPrepareHandler();
+
+    if (getEventHandler() == null || handler == null) {
+      return;
+    }
+
+    // callHook() changes callOptions on the UI thread, the prepare thread
+    // gets its own copy.
+    JSObject options;
+
+    try {
+      options = new JSObject(callOptions.toString());
+    } catch (JSONException e) {
+      getLogger().warn("Could not copy the options for the prepare phase");
+      return;
+    }
+
+    // No views here, they belong to the UI thread
+    HashMap<String, Object> params = new HashMap<>();
+    params.put("source", source);
+    params.put("plugin", this);
+    params.put("options", options);
+    params.put("config", config);
+    params.put("context", context);
+    params.put("profile", deviceClass.profile);
+    session.preparation =
+      HookPreparation.start(handler, getActivity(), eventType, params);
+  }
+
   private void doCallHook(
     HookEventType eventType,
     JSObject callOptions,
     AnimationCallbacks callbacks,
     View splashView,
-    View iconView
+    View iconView,
+    HookPreparation preparation
   ) {
+    Trace.beginSection(SplashTrace.CALL_HOOK);
+
+    // The hook's animation is a transition like any other
+    beginTransition();
+
     try {
       HashMap<String, Object> params = makeHookParams(
         callOptions,
@@ -901,15 +2732,49 @@ public class SplashScreen extends Plugin {
         iconView
       );
 
-      eventHandler.invoke(getActivity(), eventType, params);
+      if (preparation != null && preparation.isTimedOut()) {
+        // The prepare thread is left to finish, its result is dropped
+        diagnostics.record(
+          DiagnosticsLog.Event.PREPARE_TIMEOUT,
+          eventType,
+          HookPreparation.TIMEOUT_MS
+        );
+        getLogger().warn(
+          "onSplashScreenPrepare() timed out after " +
+          HookPreparation.TIMEOUT_MS +
+          " ms"
+        );
+      } else if (preparation != null) {
+        diagnostics.record(
+          DiagnosticsLog.Event.HOOK_PREPARED,
+          eventType,
+          preparation.getPrepareMs()
+        );
+
+        // A failed prepare is not fatal, the hook can do the work itself
+        if (preparation.getError() != null) {
+          diagnostics.record(
+            DiagnosticsLog.Event.ERROR,
+            preparation.getError().toString()
+          );
+          getLogger().warn(
+            "onSplashScreenPrepare() failed: " + preparation.getError()
+          );
+        } else {
+          params.put("prepared", preparation.getResult());
+        }
+      }
+
+      getEventHandler().invoke(getActivity(), eventType, params);
     } catch (IllegalAccessException | InvocationTargetException ex) {
-      postError(
-        callbacks,
+      callbacks.error(
         "The call to onSplashScreenEvent() failed",
         ErrorType.HOOK_METHOD_NOT_FOUND
       );
     } catch (Exception ex) {
-      postError(callbacks, ex.getMessage(), ErrorType.HOOK_METHOD_FAILED);
+      callbacks.error(ex.getMessage(), ErrorType.HOOK_METHOD_FAILED);
+    } finally {
+      Trace.endSection();
     }
   }
 
@@ -928,31 +2793,125 @@ public class SplashScreen extends Plugin {
     params.put("config", config);
     params.put("callbacks", callbacks);
     params.put("activity", getActivity());
+    params.put("profile", deviceClass.profile);
     return params;
   }
 
   private void addSplashView(View view, ViewGroup.LayoutParams params) {
     // Resize the layout to the entire screen size
-    Point size = new Point();
-    getActivity().getWindowManager().getDefaultDisplay().getRealSize(size);
-    params.height = size.y;
+    params.height = getGeometry().height;
     windowManager.addView(view, params);
+    scrimHost = new WeakReference<>(view);
   }
 
   private void removeView(View view) {
+    if (scrimHost.get() == view) {
+      scrimHost.clear();
+    }
+
     windowManager.removeView(view);
   }
 
-  public void tearDown() {
+  // Remove the programmatic splash without touching the state,
+  // the caller has already made the transition.
+  private void removeSplashView() {
+    detachSplashView();
+
+    SplashSession current = session;
+
+    if (current != null) {
+      current.end();
+    }
+
+    webViewPolicy.restore();
+    endTransition();
+
+    deferredWork.release();
+  }
+
+  // Take the splash views down, leaving the session as it is
+  private void detachSplashView() {
     if (splashView != null) {
       splashView.setVisibility(View.GONE);
-      removeView(splashView);
+
+      // A show() cancelled during its delay never added the view
+      if (splashView.getParent() != null) {
+        getActivity()
+          .getWindow()
+          .getDecorView()
+          .removeOnLayoutChangeListener(windowLayoutListener);
+        removeView(splashView);
+      }
+
+      splashParams = null;
       splashView = null;
       iconView = null;
       splashIcon = null;
+      progressView = null;
+    }
+
+    // Progress belongs to the splash that was removed
+    pendingProgress = -1f;
+  }
+
+  // Cancel a show() that hide() caught during its delay. A later show()
+  // may already be the current session, so only what belongs to target
+  // is touched. The views are still target's: a later show() builds its
+  // views in a runnable posted after this one.
+  private void cancelShow(@NonNull SplashSession target) {
+    scheduler.remove(target.showRunner);
+
+    if (pendingShowRunner == target.showRunner) {
+      pendingShowRunner = null;
+    }
+
+    if (session == target) {
+      removeSplashView();
+    } else {
+      // Its runner never ran, so it has no transition or WebView to undo
+      detachSplashView();
+      target.end();
+      deferredWork.release();
+    }
+
+    AnimationCallbacks callbacks = target.showCallbacks;
+    target.showCallbacks = null;
+
+    if (showCallbacks == callbacks) {
+      showCallbacks = null;
+    }
+
+    diagnostics.record(DiagnosticsLog.Event.SHOW_DONE, Outcome.CANCELLED);
+
+    if (callbacks != null) {
+      callbacks.done(Outcome.CANCELLED);
     }
+  }
+
+  public void tearDown() {
+    scheduler.removeAll();
+    mainHandler.removeCallbacksAndMessages(null);
+    pendingShowRunner = null;
+    pendingHideRunner = null;
+    cancelAnimations();
+
+    for (Animator animator : new ArrayList<>(liveAnimators)) {
+      animator.cancel();
+    }
+
+    liveAnimators.clear();
+
+    // A running animated drawable keeps its animation going
+    // until it is stopped, even once its view is gone.
+    if (splashIcon instanceof Animatable) {
+      ((Animatable) splashIcon).stop();
+    }
+
+    splashIconPaused = false;
+    removeSplashView();
+    state.set(SplashState.IDLE);
 
-    isHiding = false;
-    isActive = false;
+    // A launch screen that was still exiting never reached removeLaunchScreen()
+    endTransition();
   }
 }
@@ -0,0 +1,178 @@
+package com.aparajita.capacitor.splashscreen;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One launch screen or programmatic splash, from the moment it is requested
+// until it has been removed. Each session has its own options and its own
+// show time, so a call that arrives late cannot act on a later splash,
+// and hook delays are measured against the splash they act on.
+//
+// Times are wall clock milliseconds, like launchStartTime.
+public class SplashSession {
+
+  public enum Kind {
+    LAUNCH("launch"),
+    SHOW("show");
+
+    private final String code;
+
+    Kind(String code) {
+      this.code = code;
+    }
+
+    public String getCode() {
+      return code;
+    }
+  }
+
+  private static final AtomicInteger nextId = new AtomicInteger(1);
+
+  public final int id;
+  public final Kind kind;
+  public final String source;
+  public final long createdAt;
+  public final int showDuration;
+
+  // Set when a call for this session is accepted
+  volatile HideOptions hideOptions;
+  volatile JSObject animateOptions;
+  volatile HookPreparation preparation;
+
+  // For a programmatic splash, the show() call and its pending runner,
+  // so a hide() during the delay cancels this show and no other
+  volatile AnimationCallbacks showCallbacks;
+  volatile Runnable showRunner;
+
+  // For a programmatic splash shown with autoHide, how to hide it.
+  // autoHideOptions is cleared once the hide is scheduled.
+  volatile boolean autoHide = false;
+  volatile HideOptions autoHideOptions;
+
+  // Set once the plugin has hidden this splash on its own, because of
+  // autoHide or the maxShowDuration failsafe
+  volatile boolean autoHidden = false;
+  volatile boolean forced = false;
+
+  // When the show duration started counting, pushed back by time spent paused.
+  // A programmatic splash starts counting once it has faded in.
+  private volatile long startTime;
+  private volatile long visibleAt = 0;
+  private volatile long endedAt = 0;
+  private volatile long pausedMs = 0;
+
+  // For image sources, set once the image has been decoded
+  private volatile long decodeMs = -1;
+  private volatile long decodeEstimatedPeakBytes = 0;
+  private volatile boolean decodedAnimated = false;
+
+  private SplashSession(
+    Kind kind,
+    String source,
+    long startTime,
+    int showDuration
+  ) {
+    id = nextId.getAndIncrement();
+    this.kind = kind;
+    this.source = source;
+    this.showDuration = showDuration;
+    createdAt = new Date().getTime();
+    this.startTime = startTime;
+  }
+
+  // The launch screen has been visible since the app was launched
+  @NonNull
+  static SplashSession launch(long launchTime, int showDuration) {
+    SplashSession session = new SplashSession(
+      Kind.LAUNCH,
+      Options.DEFAULT_SOURCE,
+      0,
+      showDuration
+    );
+
+    if (launchTime <= 0) {
+      launchTime = session.createdAt;
+    }
+
+    session.startTime = launchTime;
+    session.visibleAt = session.createdAt;
+    return session;
+  }
+
+  @NonNull
+  static SplashSession show(String source, int showDuration) {
+    return new SplashSession(Kind.SHOW, source, 0, showDuration);
+  }
+
+  void markVisible() {
+    if (visibleAt == 0) {
+      visibleAt = new Date().getTime();
+      startTime = visibleAt;
+    }
+  }
+
+  // Milliseconds left before the show duration has elapsed
+  long remainingShowTime() {
+    if (startTime == 0) {
+      return showDuration;
+    }
+
+    long elapsed = new Date().getTime() - startTime;
+    return Math.max(showDuration - elapsed, 0);
+  }
+
+  // Time spent paused does not count towards the show duration
+  void shift(long millis) {
+    pausedMs += millis;
+
+    if (startTime != 0) {
+      startTime += millis;
+    }
+  }
+
+  // Milliseconds since the session was created, not counting time spent paused
+  long getAge() {
+    return new Date().getTime() - createdAt - pausedMs;
+  }
+
+  void recordDecode(long millis, long estimatedPeakBytes, boolean animated) {
+    decodeEstimatedPeakBytes = estimatedPeakBytes;
+    decodedAnimated = animated;
+    decodeMs = millis;
+  }
+
+  void end() {
+    if (endedAt == 0) {
+      endedAt = new Date().getTime();
+    }
+  }
+
+  boolean isEnded() {
+    return endedAt != 0;
+  }
+
+  @NonNull
+  public JSObject toJSObject() {
+    JSObject result = new JSObject();
+    result.put("id", id);
+    result.put("kind", kind.getCode());
+    result.put("source", source);
+    result.put("createdAt", createdAt);
+    result.put("showDuration", showDuration);
+    result.put("visibleMs", visibleAt == 0 ? -1 : visibleAt - createdAt);
+    result.put("durationMs", endedAt == 0 ? -1 : endedAt - createdAt);
+    result.put("ended", isEnded());
+
+    if (decodeMs >= 0) {
+      JSObject decode = new JSObject();
+      decode.put("ms", decodeMs);
+      decode.put("estimatedPeakBytes", decodeEstimatedPeakBytes);
+      decode.put("animated", decodedAnimated);
+      result.put("decode", decode);
+    }
+
+    return result;
+  }
+}
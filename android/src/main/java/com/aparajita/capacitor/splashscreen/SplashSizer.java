@@ -0,0 +1,128 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.app.Activity;
+import android.content.res.Configuration;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.os.Build;
+import android.view.WindowManager;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Locale;
+
+// Computes the size of the programmatic splash and its icon from the current
+// window metrics, using the same icon geometry as androidx core-splashscreen,
+// so that a programmatic splash lines up exactly with the launch splash.
+//
+// Results are cached per display and configuration, so show() and relayouts
+// only measure the first time a given configuration is seen.
+public class SplashSizer {
+
+  // From the androidx core-splashscreen layout: the icon view is 288dp,
+  // or 240dp when the theme gives the icon a background.
+  static final int ICON_SIZE_DP = 288;
+  static final int ICON_SIZE_WITH_BACKGROUND_DP = 240;
+
+  private final HashMap<String, SplashGeometry> cache = new HashMap<>();
+  private final boolean hasIconBackground;
+
+  public SplashSizer(boolean hasIconBackground) {
+    this.hasIconBackground = hasIconBackground;
+  }
+
+  public SplashGeometry getGeometry(@NonNull Activity activity) {
+    Configuration configuration = activity.getResources().getConfiguration();
+    String key = makeKey(getDisplayId(activity), configuration);
+    SplashGeometry geometry = cache.get(key);
+
+    if (geometry == null) {
+      geometry = computeGeometry(activity, configuration);
+      cache.put(key, geometry);
+    }
+
+    return geometry;
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  @NonNull
+  private String makeKey(int displayId, @NonNull Configuration configuration) {
+    return String.format(
+      Locale.ROOT,
+      "%d:%d:%dx%d@%d",
+      displayId,
+      configuration.orientation,
+      configuration.screenWidthDp,
+      configuration.screenHeightDp,
+      configuration.densityDpi
+    );
+  }
+
+  @SuppressWarnings("deprecation")
+  private int getDisplayId(@NonNull Activity activity) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+      return activity.getDisplay().getDisplayId();
+    }
+
+    return activity.getWindowManager().getDefaultDisplay().getDisplayId();
+  }
+
+  @NonNull
+  private SplashGeometry computeGeometry(
+    @NonNull Activity activity,
+    @NonNull Configuration configuration
+  ) {
+    Rect bounds = getWindowBounds(activity, configuration);
+    float density = configuration.densityDpi / 160f;
+    int iconDp = hasIconBackground
+      ? ICON_SIZE_WITH_BACKGROUND_DP
+      : ICON_SIZE_DP;
+
+    // The icon is never larger than the window, which matters in small split-screen windows
+    int iconSize = Math.min(
+      Math.round(iconDp * density),
+      Math.min(bounds.width(), bounds.height())
+    );
+
+    return new SplashGeometry(bounds.width(), bounds.height(), iconSize);
+  }
+
+  // The bounds of the activity window, including the area under the system bars.
+  @NonNull
+  @SuppressWarnings("deprecation")
+  private Rect getWindowBounds(
+    @NonNull Activity activity,
+    @NonNull Configuration configuration
+  ) {
+    WindowManager windowManager = activity.getWindowManager();
+
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+      return windowManager.getCurrentWindowMetrics().getBounds();
+    }
+
+    if (
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.N &&
+      activity.isInMultiWindowMode()
+    ) {
+      // Before WindowMetrics, the configuration is the best
+      // source for the size of a multi-window activity.
+      float density = configuration.densityDpi / 160f;
+      return new Rect(
+        0,
+        0,
+        Math.round(configuration.screenWidthDp * density),
+        Math.round(configuration.screenHeightDp * density)
+      );
+    }
+
+    Point size = new Point();
+    windowManager.getDefaultDisplay().getRealSize(size);
+    return new Rect(0, 0, size.x, size.y);
+  }
+}
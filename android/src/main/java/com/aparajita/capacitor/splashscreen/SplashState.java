@@ -0,0 +1,28 @@
+package com.aparajita.capacitor.splashscreen;
+
+// The states a splash screen moves through. Plugin calls arrive on the
+// bridge thread and animations finish on the UI thread, so every transition
+// is made with a compare-and-set. Whichever thread wins the CAS owns the
+// next step, the loser backs off.
+public enum SplashState {
+  // No splash screen is visible
+  IDLE,
+  // The system launch screen is visible, waiting for hide() or animate()
+  LAUNCH,
+  // hide() was called during launch, the launch screen will fade out
+  LAUNCH_EXITING,
+  // animate() was called during launch, the launch screen will be animated
+  LAUNCH_ANIMATING,
+  // show() was accepted and is waiting for its delay to elapse
+  SHOW_PENDING,
+  // The programmatic splash is fading in
+  SHOWING,
+  // The programmatic splash is fully visible
+  SHOWN,
+  // hide() was accepted and is waiting for its delay to elapse
+  HIDE_PENDING,
+  // The programmatic splash is fading out
+  HIDING,
+  // The programmatic splash is being animated by the app's hook
+  ANIMATING
+}
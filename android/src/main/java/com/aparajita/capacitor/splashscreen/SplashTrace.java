@@ -0,0 +1,20 @@
+package com.aparajita.capacitor.splashscreen;
+
+// Named trace sections around the main thread work the plugin does for
+// each transition. They show up in system traces, and the unit tests use
+// them to check each task against its own budget.
+//
+// Each one is begun with android.os.Trace.beginSection() and ended in a
+// finally block, and costs next to nothing when tracing is off.
+final class SplashTrace {
+
+  static final String EXIT_LAUNCH = "SplashScreen.exitLaunchScreen";
+  static final String BUILD_VIEWS = "SplashScreen.buildViews";
+  static final String SHOW_RUNNER = "SplashScreen.showRunner";
+  static final String FADE_IN_END = "SplashScreen.fadeInEnd";
+  static final String HIDE_RUNNER = "SplashScreen.hideRunner";
+  static final String FADE_OUT_END = "SplashScreen.fadeOutEnd";
+  static final String CALL_HOOK = "SplashScreen.callHook";
+
+  private SplashTrace() {}
+}
@@ -0,0 +1,149 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.view.View;
+import android.view.ViewAnimationUtils;
+import android.view.ViewTreeObserver;
+import android.view.animation.AccelerateInterpolator;
+import android.view.animation.DecelerateInterpolator;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+// How a splash enters and leaves the screen.
+//
+// A fade is an ObjectAnimator, which is stepped on the main thread, so it
+// stutters whenever the main thread is busy. A reveal is a circular reveal,
+// which on a hardware accelerated view is run by the RenderThread: once it
+// has started, it keeps going smoothly however long the main thread is
+// blocked. Its listeners are still called on the main thread.
+public class SplashTransition {
+
+  public enum Style {
+    FADE("fade"),
+    REVEAL("reveal");
+
+    private final String code;
+
+    Style(String code) {
+      this.code = code;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    @NonNull
+    public static Style fromCode(@Nullable String code) {
+      for (Style style : values()) {
+        if (style.code.equals(code)) {
+          return style;
+        }
+      }
+
+      return FADE;
+    }
+  }
+
+  // The reveal animator class is not public, so reveals are remembered here
+  private static final Set<Animator> reveals = Collections.newSetFromMap(
+    new WeakHashMap<>()
+  );
+
+  // A reveal needs the view's size, and only runs off the main thread
+  // when the view is drawn by the hardware renderer.
+  public static boolean canReveal(@NonNull View view) {
+    return (
+      view.isAttachedToWindow() &&
+      view.isHardwareAccelerated() &&
+      view.getWidth() > 0 &&
+      view.getHeight() > 0
+    );
+  }
+
+  // Reveals are run by the RenderThread, they cannot be paused and resumed
+  public static boolean isReveal(@NonNull Animator animator) {
+    return reveals.contains(animator);
+  }
+
+  // A circle centered on the focus view (usually the icon) that grows to
+  // uncover the whole view when entering, or shrinks to nothing when leaving.
+  @NonNull
+  public static Animator reveal(
+    @NonNull View view,
+    @Nullable View focus,
+    boolean entering,
+    long duration
+  ) {
+    int width = view.getWidth();
+    int height = view.getHeight();
+    int centerX = width / 2;
+    int centerY = height / 2;
+
+    if (focus != null && focus.getWidth() > 0) {
+      int[] viewLocation = new int[2];
+      int[] focusLocation = new int[2];
+      view.getLocationInWindow(viewLocation);
+      focus.getLocationInWindow(focusLocation);
+      centerX = focusLocation[0] - viewLocation[0] + focus.getWidth() / 2;
+      centerY = focusLocation[1] - viewLocation[1] + focus.getHeight() / 2;
+    }
+
+    // Far enough to reach the farthest corner
+    float radius = (float) Math.hypot(
+      Math.max(centerX, width - centerX),
+      Math.max(centerY, height - centerY)
+    );
+
+    Animator animator = ViewAnimationUtils.createCircularReveal(
+      view,
+      centerX,
+      centerY,
+      entering ? 0f : radius,
+      entering ? radius : 0f
+    );
+    animator.setDuration(duration);
+    reveals.add(animator);
+
+    if (entering) {
+      animator.setInterpolator(new DecelerateInterpolator());
+    } else {
+      animator.setInterpolator(new AccelerateInterpolator());
+
+      // Once the reveal ends, its clip is gone and the view would show
+      // again for a frame before it is removed.
+      animator.addListener(
+        new AnimatorListenerAdapter() {
+          @Override
+          public void onAnimationEnd(Animator animation) {
+            view.setVisibility(View.INVISIBLE);
+          }
+        }
+      );
+    }
+
+    return animator;
+  }
+
+  // Run the action just before the view is first drawn, when it has been laid out
+  public static void beforeFirstDraw(
+    @NonNull View view,
+    @NonNull Runnable action
+  ) {
+    view
+      .getViewTreeObserver()
+      .addOnPreDrawListener(
+        new ViewTreeObserver.OnPreDrawListener() {
+          @Override
+          public boolean onPreDraw() {
+            view.getViewTreeObserver().removeOnPreDrawListener(this);
+            action.run();
+            return true;
+          }
+        }
+      );
+  }
+}
@@ -0,0 +1,109 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+
+// Classifies the start once at load() and selects the launch screen policy
+// for that type of start from the "<type>Start" config options, which fall
+// back to the top level showDuration.
+public class StartInfo {
+
+  // A process that was started this long before the activity was created
+  // was started for something else, e.g. a service or a broadcast.
+  private static final long WARM_PROCESS_AGE_MS = 5000;
+
+  public final StartType type;
+  public final boolean hasSavedState;
+
+  // Milliseconds between process start and activity creation, -1 if unknown
+  public final long processAgeMs;
+  public final int showDuration;
+  public final boolean autoHide;
+
+  // Uptime when the launch screen was installed and when it was removed
+  private final long installedAt;
+  private volatile long exitedAt = 0;
+
+  // How long the exit waited for the icon animation, -1 if it did not look
+  private volatile long iconWaitMs = -1;
+
+  // Milliseconds from load() and from activity creation until the launch
+  // screen was installed, the latter -1 if initLaunchTime() was not called.
+  private final long activityCreatedAt;
+  private volatile long loadToInstallMs = -1;
+  private volatile long createToInstallMs = -1;
+
+  public StartInfo(
+    @NonNull Config config,
+    boolean loadedBefore,
+    boolean hasSavedState,
+    long activityCreatedAt
+  ) {
+    this.hasSavedState = hasSavedState;
+    this.activityCreatedAt = activityCreatedAt;
+    installedAt = SystemClock.uptimeMillis();
+    long createdAt = activityCreatedAt > 0 ? activityCreatedAt : installedAt;
+    processAgeMs =
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        ? createdAt - Process.getStartUptimeMillis()
+        : -1;
+
+    if (loadedBefore) {
+      type = StartType.HOT;
+    } else if (hasSavedState || processAgeMs > WARM_PROCESS_AGE_MS) {
+      type = StartType.WARM;
+    } else {
+      type = StartType.COLD;
+    }
+
+    String prefix = type.getCode() + "Start.";
+    showDuration =
+      SplashScreen.toMilliseconds(
+        config.getDouble(
+          prefix + Options.SHOW_DURATION,
+          config.getDouble(Options.SHOW_DURATION, Options.DEFAULT_SHOW_DURATION)
+        )
+      );
+    autoHide = config.getBoolean(prefix + Options.AUTO_HIDE, false);
+  }
+
+  public void launchExited() {
+    if (exitedAt == 0) {
+      exitedAt = SystemClock.uptimeMillis();
+    }
+  }
+
+  // Called as soon as installSplashScreen() returns
+  public void recordInstall(long loadStartedAt) {
+    long now = SystemClock.uptimeMillis();
+    loadToInstallMs = now - loadStartedAt;
+
+    if (activityCreatedAt > 0) {
+      createToInstallMs = now - activityCreatedAt;
+    }
+  }
+
+  public void recordIconWait(long millis) {
+    iconWaitMs = millis;
+  }
+
+  @NonNull
+  public JSObject toJSObject() {
+    JSObject result = new JSObject();
+    result.put("startType", type.getCode());
+    result.put("hasSavedState", hasSavedState);
+    result.put("processAgeMs", processAgeMs);
+    result.put("showDuration", showDuration);
+    result.put("autoHide", autoHide);
+
+    long exited = exitedAt;
+    result.put("launchScreenMs", exited == 0 ? -1 : exited - installedAt);
+    result.put("iconWaitMs", iconWaitMs);
+    result.put("loadToInstallMs", loadToInstallMs);
+    result.put("createToInstallMs", createToInstallMs);
+    return result;
+  }
+}
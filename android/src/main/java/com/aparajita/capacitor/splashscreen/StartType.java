@@ -0,0 +1,23 @@
+package com.aparajita.capacitor.splashscreen;
+
+// How much of the app was already running when the launch screen was shown.
+public enum StartType {
+  // A new process: nothing is loaded, the WebView has to start from scratch
+  COLD("cold"),
+  // The process was already running, or the activity is being restored
+  // from saved state after the process was killed
+  WARM("warm"),
+  // The plugin has already been loaded in this process, only the activity
+  // is being recreated
+  HOT("hot");
+
+  private final String code;
+
+  StartType(String code) {
+    this.code = code;
+  }
+
+  public String getCode() {
+    return code;
+  }
+}
@@ -0,0 +1,132 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import java.util.concurrent.Executor;
+
+// While a splash transition runs, the main thread is raised to display
+// priority so that background startup work does not take the CPU away from
+// the frames that are on screen. Background work can also cooperate by
+// waiting for the transition to finish before it starts.
+//
+// A transition is a window between begin() and end(), which are called on the
+// main thread. When the boost is disabled neither does anything, and nothing
+// ever waits.
+public class TransitionBoost {
+
+  private boolean enabled = false;
+
+  // These are guarded by this
+  private boolean active = false;
+  private long startedAt;
+  private int savedPriority;
+  private int windows = 0;
+  private long totalMs = 0;
+  private long longestMs = 0;
+  private long lastMs = -1;
+
+  public synchronized void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized boolean isActive() {
+    return active;
+  }
+
+  // Starting a transition while one is active just extends the window
+  public synchronized void begin() {
+    if (!enabled || active) {
+      return;
+    }
+
+    active = true;
+    startedAt = SystemClock.uptimeMillis();
+
+    int tid = Process.myTid();
+    savedPriority = Process.getThreadPriority(tid);
+
+    // Only ever raise the priority, the system may already have done better
+    if (savedPriority > Process.THREAD_PRIORITY_DISPLAY) {
+      Process.setThreadPriority(Process.THREAD_PRIORITY_DISPLAY);
+    }
+  }
+
+  // Returns the length of the window that ended, or -1 if none was active
+  public synchronized long end() {
+    if (!active) {
+      return -1;
+    }
+
+    active = false;
+
+    if (savedPriority > Process.THREAD_PRIORITY_DISPLAY) {
+      Process.setThreadPriority(savedPriority);
+    }
+
+    lastMs = SystemClock.uptimeMillis() - startedAt;
+    windows++;
+    totalMs += lastMs;
+    longestMs = Math.max(longestMs, lastMs);
+    notifyAll();
+    return lastMs;
+  }
+
+  // Block a background thread until no transition is running, for at most
+  // timeoutMs. Returns false on timeout. On the main thread this returns
+  // at once, since the transition cannot end while it waits.
+  public boolean await(long timeoutMs) throws InterruptedException {
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      return !isActive();
+    }
+
+    long deadline = SystemClock.uptimeMillis() + timeoutMs;
+
+    synchronized (this) {
+      while (active) {
+        long remaining = deadline - SystemClock.uptimeMillis();
+
+        if (remaining <= 0) {
+          return false;
+        }
+
+        wait(remaining);
+      }
+    }
+
+    return true;
+  }
+
+  // An executor whose tasks each wait for a running transition before they start
+  @NonNull
+  public Executor wrap(@NonNull Executor executor, long timeoutMs) {
+    return task ->
+      executor.execute(() -> {
+        try {
+          await(timeoutMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+
+        task.run();
+      });
+  }
+
+  @NonNull
+  public synchronized JSObject toJSObject() {
+    JSObject result = new JSObject();
+    result.put("enabled", enabled);
+    result.put("active", active);
+    result.put("windows", windows);
+    result.put("totalMs", totalMs);
+    result.put("longestMs", longestMs);
+    result.put("lastMs", lastMs);
+    return result;
+  }
+}
@@ -0,0 +1,51 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Process;
+import androidx.annotation.NonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A small, bounded executor for native warmup work done while the splash is up.
+// Threads run at background priority so they do not compete with the UI thread,
+// and time out when idle so nothing is left running after launch.
+public class WarmupExecutor {
+
+  private static final int THREADS = 2;
+  private static final int QUEUE_SIZE = 32;
+  private static final long KEEP_ALIVE_SECONDS = 10;
+
+  private final ThreadPoolExecutor executor;
+
+  public WarmupExecutor() {
+    AtomicInteger count = new AtomicInteger();
+    ThreadFactory factory = runnable ->
+      new Thread(
+        () -> {
+          Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+          runnable.run();
+        },
+        "SplashWarmup-" + count.incrementAndGet()
+      );
+
+    executor =
+      new ThreadPoolExecutor(
+        THREADS,
+        THREADS,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_SIZE),
+        factory
+      );
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  // Throws RejectedExecutionException if the queue is full
+  @NonNull
+  public Future<?> submit(@NonNull Runnable task) {
+    return executor.submit(task);
+  }
+}
@@ -0,0 +1,111 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.os.Build;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// What to do with the Capacitor WebView while a programmatic splash covers it.
+// All methods must be called on the UI thread.
+public class WebViewPolicy {
+
+  public enum Mode {
+    // Leave the WebView alone
+    NONE("none"),
+    // Pause the WebView's rendering work while it is covered.
+    // WebView.onPause() stops animations but does not pause JavaScript.
+    THROTTLE("throttle"),
+    // Turn on offscreen pre-rasterization before fading out, so the first
+    // revealed frame is already rastered.
+    PRERASTER("preraster");
+
+    private final String code;
+
+    Mode(String code) {
+      this.code = code;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    @NonNull
+    public static Mode fromCode(@Nullable String code) {
+      for (Mode mode : values()) {
+        if (mode.code.equals(code)) {
+          return mode;
+        }
+      }
+
+      return NONE;
+    }
+  }
+
+  private final Mode mode;
+  private WebView webView;
+  private boolean paused = false;
+  private boolean preRasterChanged = false;
+  private boolean originalPreRaster = false;
+
+  public WebViewPolicy(@NonNull Mode mode) {
+    this.mode = mode;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  // The splash is fully opaque and covers the WebView
+  public void onCovered(@Nullable WebView webView) {
+    if (mode != Mode.THROTTLE || webView == null || paused) {
+      return;
+    }
+
+    this.webView = webView;
+    webView.onPause();
+    paused = true;
+  }
+
+  // The splash is about to start fading out or animating
+  public void onUncovering(@Nullable WebView webView) {
+    if (webView == null) {
+      return;
+    }
+
+    this.webView = webView;
+
+    if (paused) {
+      webView.onResume();
+      paused = false;
+    }
+
+    if (
+      mode == Mode.PRERASTER &&
+      !preRasterChanged &&
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.M
+    ) {
+      originalPreRaster = webView.getSettings().getOffscreenPreRaster();
+      webView.getSettings().setOffscreenPreRaster(true);
+      preRasterChanged = true;
+    }
+  }
+
+  // The splash is gone, put back whatever we changed
+  public void restore() {
+    if (webView == null) {
+      return;
+    }
+
+    if (paused) {
+      webView.onResume();
+      paused = false;
+    }
+
+    if (preRasterChanged && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      webView.getSettings().setOffscreenPreRaster(originalPreRaster);
+      preRasterChanged = false;
+    }
+
+    webView = null;
+  }
+}
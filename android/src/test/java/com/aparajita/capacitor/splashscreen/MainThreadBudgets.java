@@ -0,0 +1,185 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+// The checked-in main thread budgets in main-thread-budgets.json:
+//
+// - "phases" has one object per phase of the test, with optional limits
+//   on its total CPU, its most expensive task, its allocations and its
+//   number of tasks. A missing limit is not checked.
+// - "tasks" has one object per SplashTrace section, with limits on the CPU
+//   and allocations of the most expensive task that ran it. Every section
+//   listed must have run, so a section that is lost is not a silent pass.
+// - "margin" is what the measured costs are multiplied by to record them.
+//
+// Run the tests with -PrecordBudgets to write the costs measured on this
+// machine, times the margin, back to the file instead of checking them.
+class MainThreadBudgets {
+
+  private static final String RESOURCE = "main-thread-budgets.json";
+
+  // Set by build.gradle
+  private static final String RECORD_PROPERTY = "recordBudgets";
+  private static final String FILE_PROPERTY = "budgetsFile";
+
+  private final JSONObject budgets;
+
+  MainThreadBudgets() throws IOException, JSONException {
+    try (
+      InputStream in = getClass().getClassLoader().getResourceAsStream(RESOURCE)
+    ) {
+      assertNotNull(RESOURCE + " is missing from the test resources", in);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int count;
+
+      while ((count = in.read(buffer)) != -1) {
+        out.write(buffer, 0, count);
+      }
+
+      budgets = new JSONObject(out.toString(StandardCharsets.UTF_8.name()));
+    }
+  }
+
+  static boolean isRecording() {
+    return Boolean.getBoolean(RECORD_PROPERTY);
+  }
+
+  void check(@NonNull Map<String, MainThreadMeter.Cost> costs)
+    throws JSONException {
+    JSONObject phases = budgets.getJSONObject("phases");
+
+    for (Map.Entry<String, MainThreadMeter.Cost> entry : costs.entrySet()) {
+      String phase = entry.getKey();
+      MainThreadMeter.Cost cost = entry.getValue();
+      JSONObject budget = phases.optJSONObject(phase);
+      assertNotNull("No budget for the " + phase + " phase", budget);
+
+      checkLimit(phase, "totalCpuUs", cost.totalCpuUs, budget);
+      checkLimit(phase, "maxTaskCpuUs", cost.maxTaskCpuUs, budget);
+      checkLimit(phase, "allocatedBytes", cost.allocatedBytes, budget);
+      checkLimit(phase, "tasks", cost.tasks, budget);
+    }
+
+    JSONObject tasks = budgets.getJSONObject("tasks");
+    Map<String, MainThreadMeter.TaskCost> sections = mergeSections(costs);
+    Iterator<String> names = tasks.keys();
+
+    while (names.hasNext()) {
+      String name = names.next();
+      JSONObject budget = tasks.getJSONObject(name);
+      MainThreadMeter.TaskCost cost = sections.get(name);
+      assertNotNull("The " + name + " section never ran", cost);
+
+      checkLimit(name, "cpuUs", cost.maxCpuUs, budget);
+      checkLimit(name, "allocatedBytes", cost.maxAllocatedBytes, budget);
+    }
+  }
+
+  // Write the measured costs times the margin, with a task budget for
+  // every section that ran
+  void record(@NonNull Map<String, MainThreadMeter.Cost> costs)
+    throws IOException, JSONException {
+    String path = System.getProperty(FILE_PROPERTY);
+    assertNotNull(FILE_PROPERTY + " must be set to record budgets", path);
+
+    double margin = budgets.optDouble("margin", 1.5);
+    JSONObject phases = new JSONObject();
+
+    for (Map.Entry<String, MainThreadMeter.Cost> entry : costs.entrySet()) {
+      MainThreadMeter.Cost cost = entry.getValue();
+      JSONObject budget = new JSONObject();
+      budget.put("totalCpuUs", withMargin(cost.totalCpuUs, margin));
+      budget.put("maxTaskCpuUs", withMargin(cost.maxTaskCpuUs, margin));
+      budget.put("allocatedBytes", withMargin(cost.allocatedBytes, margin));
+      budget.put("tasks", withMargin(cost.tasks, margin));
+      phases.put(entry.getKey(), budget);
+    }
+
+    JSONObject tasks = new JSONObject();
+    Map<String, MainThreadMeter.TaskCost> sections = mergeSections(costs);
+
+    for (String name : sections.keySet()) {
+      MainThreadMeter.TaskCost cost = sections.get(name);
+      JSONObject budget = new JSONObject();
+      budget.put("cpuUs", withMargin(cost.maxCpuUs, margin));
+      budget.put("allocatedBytes", withMargin(cost.maxAllocatedBytes, margin));
+      tasks.put(name, budget);
+    }
+
+    JSONObject recorded = new JSONObject();
+    recorded.put("recorded", true);
+    recorded.put("margin", margin);
+    recorded.put("phases", phases);
+    recorded.put("tasks", tasks);
+
+    try (OutputStream out = new FileOutputStream(path)) {
+      out.write(
+        (recorded.toString(2) + "\n").getBytes(StandardCharsets.UTF_8)
+      );
+    }
+  }
+
+  // False until the budgets have been recorded from a real run
+  boolean isRecorded() {
+    return budgets.optBoolean("recorded", false);
+  }
+
+  @NonNull
+  private static Map<String, MainThreadMeter.TaskCost> mergeSections(
+    @NonNull Map<String, MainThreadMeter.Cost> costs
+  ) {
+    Map<String, MainThreadMeter.TaskCost> merged = new TreeMap<>();
+
+    for (MainThreadMeter.Cost cost : costs.values()) {
+      for (String name : cost.sections.keySet()) {
+        MainThreadMeter.TaskCost total = merged.get(name);
+
+        if (total == null) {
+          total = new MainThreadMeter.TaskCost();
+          merged.put(name, total);
+        }
+
+        total.add(cost.sections.get(name));
+      }
+    }
+
+    return merged;
+  }
+
+  private static long withMargin(long value, double margin) {
+    return (long) Math.ceil(value * margin);
+  }
+
+  private static void checkLimit(
+    @NonNull String what,
+    @NonNull String name,
+    long value,
+    @NonNull JSONObject budget
+  ) {
+    if (!budget.has(name)) {
+      return;
+    }
+
+    long limit = budget.optLong(name);
+    assertTrue(
+      what + "." + name + " = " + value + ", budget is " + limit,
+      value <= limit
+    );
+  }
+}
@@ -0,0 +1,143 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.junit.Assert.assertEquals;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.LooperMode;
+
+// Drives the launch screen, show(), hide() and animate() the way an app does,
+// and checks the main thread work of each phase against the budgets in
+// src/test/resources/main-thread-budgets.json.
+//
+// Each task is also checked on its own against the budget of the
+// SplashTrace sections it ran, such as buildViews() and the show runner.
+//
+// The numbers are JVM numbers, not device numbers: they catch a change that
+// makes a phase do more work on the main thread, not how long it takes on
+// a phone. The measured costs are printed. When a change is meant to cost
+// more, or on a new build machine, run the tests with -PrecordBudgets to
+// write the measured costs plus the margin back to the budgets.
+//
+// API 30 is used so that core-splashscreen runs its own launch screen
+// rather than the platform's.
+@RunWith(RobolectricTestRunner.class)
+@org.robolectric.annotation.Config(sdk = 30)
+@LooperMode(LooperMode.Mode.PAUSED)
+public class MainThreadCostTest {
+
+  // Long enough for every fade and hook animation to finish
+  private static final long WINDOW_MS = 1000;
+  // The default fade in, so show() costs what it does in an app
+  private static final long FADE_IN_MS = 200;
+
+  private final MainThreadMeter meter = new MainThreadMeter();
+
+  @Test
+  public void staysWithinMainThreadBudgets() throws Exception {
+    // The first run loads classes and warms up the JIT, only the second counts
+    runPhases();
+    Map<String, MainThreadMeter.Cost> costs = runPhases();
+    MainThreadBudgets budgets = new MainThreadBudgets();
+
+    for (Map.Entry<String, MainThreadMeter.Cost> entry : costs.entrySet()) {
+      System.out.println(entry.getKey() + ": " + entry.getValue());
+
+      entry
+        .getValue()
+        .sections.forEach((name, cost) ->
+          System.out.println("  " + name + ": " + cost)
+        );
+    }
+
+    if (MainThreadBudgets.isRecording()) {
+      budgets.record(costs);
+      return;
+    }
+
+    if (!budgets.isRecorded()) {
+      System.out.println(
+        "The main thread budgets are placeholders, " +
+        "record them with -PrecordBudgets"
+      );
+    }
+
+    budgets.check(costs);
+  }
+
+  @NonNull
+  private Map<String, MainThreadMeter.Cost> runPhases() throws Exception {
+    Map<String, MainThreadMeter.Cost> costs = new LinkedHashMap<>();
+    ActivityController<TestActivity> controller = Robolectric
+      .buildActivity(TestActivity.class)
+      .create();
+    SplashScreen plugin = TestPlugins.makePlugin(
+      controller.get(),
+      TestPlugins.makeConfig()
+    );
+
+    // load() installs the launch screen, the rest of the startup runs
+    // on the first frames.
+    costs.put(
+      "launch",
+      meter.measure(
+        () -> {
+          plugin.load();
+          controller.start().resume().visible();
+        },
+        WINDOW_MS
+      )
+    );
+    assertEquals(SplashState.LAUNCH, plugin.getState());
+
+    RecordingCallbacks launchExit = new RecordingCallbacks();
+    costs.put(
+      "launchExit",
+      meter.measure(() -> plugin.hide(launchExit), WINDOW_MS)
+    );
+    launchExit.assertDone("launchExit");
+    assertEquals(SplashState.IDLE, plugin.getState());
+
+    RecordingCallbacks show = new RecordingCallbacks();
+    costs.put(
+      "show",
+      meter.measure(
+        () -> plugin.show(TestPlugins.makeShowOptions(0, FADE_IN_MS), show),
+        WINDOW_MS
+      )
+    );
+    show.assertDone("show");
+    assertEquals(SplashState.SHOWN, plugin.getState());
+
+    RecordingCallbacks hide = new RecordingCallbacks();
+    costs.put("hide", meter.measure(() -> plugin.hide(hide), WINDOW_MS));
+    hide.assertDone("hide");
+    assertEquals(SplashState.IDLE, plugin.getState());
+
+    // animate() needs a splash on screen, which is not part of its cost
+    RecordingCallbacks reshow = new RecordingCallbacks();
+    meter.measure(
+      () -> plugin.show(TestPlugins.makeShowOptions(0, FADE_IN_MS), reshow),
+      WINDOW_MS
+    );
+    reshow.assertDone("show before animate");
+
+    RecordingCallbacks animate = new RecordingCallbacks();
+    costs.put(
+      "animate",
+      meter.measure(() -> plugin.animate(new JSObject(), animate), WINDOW_MS)
+    );
+    animate.assertDone("animate");
+    assertEquals(SplashState.IDLE, plugin.getState());
+
+    controller.pause().stop().destroy();
+    return costs;
+  }
+}
@@ -0,0 +1,162 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import org.robolectric.shadows.ShadowLooper;
+import org.robolectric.shadows.ShadowSystemClock;
+import org.robolectric.shadows.ShadowTrace;
+
+// Measures the main thread work done by a call and by every task it posts.
+//
+// The main looper must be paused. After the call returns, the looper's tasks
+// are run one at a time, advancing the clock to each delayed task in turn,
+// until nothing is due before the end of the given window. Each task is
+// measured on its own, so a single expensive runnable or animator frame
+// stands out even when the total is small.
+//
+// CPU time is the test thread's CPU time, which is the main thread here.
+// Allocations come from the JVM's per-thread counter when it has one.
+//
+// A task is also charged to every SplashTrace section that ended while it
+// ran, so the cost of buildViews(), the show runner and so on can be
+// checked on their own whichever phase they ran in.
+class MainThreadMeter {
+
+  // The most expensive task that ran a given section
+  static class TaskCost {
+
+    int runs = 0;
+    long maxCpuUs = 0;
+    long maxAllocatedBytes = 0;
+
+    void add(long cpuUs, long allocatedBytes) {
+      runs++;
+      maxCpuUs = Math.max(maxCpuUs, cpuUs);
+      maxAllocatedBytes = Math.max(maxAllocatedBytes, allocatedBytes);
+    }
+
+    void add(@NonNull TaskCost other) {
+      runs += other.runs;
+      maxCpuUs = Math.max(maxCpuUs, other.maxCpuUs);
+      maxAllocatedBytes = Math.max(maxAllocatedBytes, other.maxAllocatedBytes);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return String.format(
+        Locale.ROOT,
+        "runs = %d, max CPU = %d us, max allocated = %d bytes",
+        runs,
+        maxCpuUs,
+        maxAllocatedBytes
+      );
+    }
+  }
+
+  static class Cost {
+
+    int tasks = 0;
+    long totalCpuUs = 0;
+    long maxTaskCpuUs = 0;
+    long allocatedBytes = 0;
+    final Map<String, TaskCost> sections = new TreeMap<>();
+
+    @NonNull
+    @Override
+    public String toString() {
+      return String.format(
+        Locale.ROOT,
+        "tasks = %d, total CPU = %d us, max task CPU = %d us, allocated = %d bytes",
+        tasks,
+        totalCpuUs,
+        maxTaskCpuUs,
+        allocatedBytes
+      );
+    }
+  }
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  // Run the call, then every task due within windowMs of it
+  @NonNull
+  Cost measure(@NonNull Runnable call, long windowMs) {
+    Cost cost = new Cost();
+    ShadowLooper looper = shadowOf(Looper.getMainLooper());
+    long deadline = SystemClock.uptimeMillis() + windowMs;
+
+    record(cost, call);
+
+    while (true) {
+      if (!looper.isIdle()) {
+        record(cost, looper::runOneTask);
+        continue;
+      }
+
+      Duration next = looper.getNextScheduledTaskTime();
+
+      if (next.isZero() || next.toMillis() > deadline) {
+        break;
+      }
+
+      long wait = next.toMillis() - SystemClock.uptimeMillis();
+
+      if (wait > 0) {
+        ShadowSystemClock.advanceBy(Duration.ofMillis(wait));
+      } else {
+        record(cost, looper::runOneTask);
+      }
+    }
+
+    // Leave the clock at the end of the window, so the next call starts there
+    long remaining = deadline - SystemClock.uptimeMillis();
+
+    if (remaining > 0) {
+      ShadowSystemClock.advanceBy(Duration.ofMillis(remaining));
+    }
+
+    return cost;
+  }
+
+  private void record(@NonNull Cost cost, @NonNull Runnable task) {
+    ShadowTrace.reset();
+    long allocated = allocatedBytes();
+    long cpu = threads.getCurrentThreadCpuTime();
+
+    task.run();
+
+    long cpuUs = (threads.getCurrentThreadCpuTime() - cpu) / 1000;
+    long allocatedBytes = Math.max(allocatedBytes() - allocated, 0);
+    cost.tasks++;
+    cost.totalCpuUs += cpuUs;
+    cost.maxTaskCpuUs = Math.max(cost.maxTaskCpuUs, cpuUs);
+    cost.allocatedBytes += allocatedBytes;
+
+    // A section run twice in one task is still one task
+    for (String section : new HashSet<>(ShadowTrace.getPreviousSections())) {
+      cost.sections
+        .computeIfAbsent(section, name -> new TaskCost())
+        .add(cpuUs, allocatedBytes);
+    }
+  }
+
+  private long allocatedBytes() {
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      return (
+        (com.sun.management.ThreadMXBean) threads
+      ).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    return 0;
+  }
+}
@@ -0,0 +1,60 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.animation.TimeInterpolator;
+import androidx.annotation.NonNull;
+
+// Stands in for a plugin call, recording how it was settled
+class RecordingCallbacks implements AnimationCallbacks {
+
+  boolean done = false;
+  SplashScreen.Outcome outcome = null;
+  String error = null;
+  SplashSession session = null;
+
+  @Override
+  public void done() {
+    done(SplashScreen.Outcome.COMPLETED);
+  }
+
+  @Override
+  public void done(SplashScreen.Outcome outcome) {
+    done = true;
+    this.outcome = outcome;
+  }
+
+  @Override
+  public void error(String message, SplashScreen.ErrorType code) {
+    error = message;
+  }
+
+  @Override
+  public void setSession(SplashSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public void showStatusBar(
+    long delay,
+    long duration,
+    TimeInterpolator interpolator
+  ) {}
+
+  @Override
+  public void showNavigationBar(
+    long delay,
+    long duration,
+    TimeInterpolator interpolator
+  ) {}
+
+  boolean isSettled() {
+    return done || error != null;
+  }
+
+  void assertDone(@NonNull String call) {
+    assertNull(call + " failed", error);
+    assertTrue(call + " did not finish", done);
+  }
+}
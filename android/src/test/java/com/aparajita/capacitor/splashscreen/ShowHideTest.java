@@ -0,0 +1,103 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import java.time.Duration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.shadows.ShadowLooper;
+
+// Calls that overlap each other the way they do when an app's JavaScript
+// does not wait for one promise before making the next call.
+@RunWith(RobolectricTestRunner.class)
+@org.robolectric.annotation.Config(sdk = 30)
+@LooperMode(LooperMode.Mode.PAUSED)
+public class ShowHideTest {
+
+  private ActivityController<TestActivity> controller;
+  private SplashScreen plugin;
+  private ShadowLooper looper;
+
+  @Before
+  public void setUp() throws Exception {
+    looper = shadowOf(Looper.getMainLooper());
+    controller = Robolectric.buildActivity(TestActivity.class).create();
+    plugin = TestPlugins.makePlugin(controller.get(), TestPlugins.makeConfig());
+
+    // Get the launch screen out of the way
+    plugin.load();
+    controller.start().resume().visible();
+    RecordingCallbacks launchExit = new RecordingCallbacks();
+    plugin.hide(launchExit);
+    looper.idleFor(Duration.ofSeconds(1));
+    launchExit.assertDone("launchExit");
+    assertEquals(SplashState.IDLE, plugin.getState());
+  }
+
+  @After
+  public void tearDown() {
+    controller.pause().stop().destroy();
+  }
+
+  @Test
+  public void hideDuringShowDelayCancelsOnlyThatShow() {
+    RecordingCallbacks show1 = new RecordingCallbacks();
+    RecordingCallbacks hide = new RecordingCallbacks();
+    RecordingCallbacks show2 = new RecordingCallbacks();
+
+    // All three calls arrive before the main thread gets to any of them
+    plugin.show(TestPlugins.makeShowOptions(0, 0), show1);
+    plugin.hide(hide);
+    plugin.show(TestPlugins.makeShowOptions(500, 0), show2);
+    assertEquals(SplashState.SHOW_PENDING, plugin.getState());
+
+    looper.idle();
+
+    show1.assertDone("show1");
+    assertEquals(SplashScreen.Outcome.CANCELLED, show1.outcome);
+    hide.assertDone("hide");
+    assertEquals(SplashScreen.Outcome.COALESCED, hide.outcome);
+    assertEquals(show1.session, hide.session);
+    assertNotSame(show1.session, show2.session);
+    assertFalse("show2 settled early", show2.isSettled());
+
+    // show1 had no delay, so if its runner survived it would be showing now
+    looper.idleFor(Duration.ofMillis(300));
+    assertEquals(SplashState.SHOW_PENDING, plugin.getState());
+    assertFalse("show2 settled before its delay", show2.isSettled());
+
+    looper.idleFor(Duration.ofMillis(500));
+    show2.assertDone("show2");
+    assertEquals(SplashScreen.Outcome.COMPLETED, show2.outcome);
+    assertEquals(SplashState.SHOWN, plugin.getState());
+  }
+
+  @Test
+  public void hideDuringShowDelayCancelsTheShow() {
+    RecordingCallbacks show = new RecordingCallbacks();
+    RecordingCallbacks hide = new RecordingCallbacks();
+
+    plugin.show(TestPlugins.makeShowOptions(500, 0), show);
+    looper.idle();
+    plugin.hide(hide);
+    looper.idleFor(Duration.ofSeconds(1));
+
+    show.assertDone("show");
+    assertEquals(SplashScreen.Outcome.CANCELLED, show.outcome);
+    hide.assertDone("hide");
+    assertEquals(SplashScreen.Outcome.COALESCED, hide.outcome);
+    assertNull(show.error);
+    assertEquals(SplashState.IDLE, plugin.getState());
+  }
+}
@@ -0,0 +1,43 @@
+package com.aparajita.capacitor.splashscreen;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ObjectAnimator;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.FrameLayout;
+import androidx.appcompat.app.AppCompatActivity;
+import java.util.HashMap;
+
+// An app activity with a typical animation hook: it fades the splash out,
+// then reports that it is done.
+public class TestActivity extends AppCompatActivity {
+
+  static final long HOOK_DURATION_MS = 300;
+
+  @Override
+  protected void onCreate(Bundle savedInstanceState) {
+    setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light_NoActionBar);
+    super.onCreate(savedInstanceState);
+    setContentView(new FrameLayout(this));
+  }
+
+  public void onSplashScreenEvent(
+    SplashScreen.HookEventType event,
+    HashMap<String, Object> params
+  ) {
+    View splashView = (View) params.get("splashView");
+    AnimationCallbacks callbacks = (AnimationCallbacks) params.get("callbacks");
+    ObjectAnimator fade = ObjectAnimator.ofFloat(splashView, View.ALPHA, 0f);
+    fade.setDuration(HOOK_DURATION_MS);
+    fade.addListener(
+      new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationEnd(Animator animation) {
+          callbacks.done();
+        }
+      }
+    );
+    fade.start();
+  }
+}
@@ -0,0 +1,66 @@
+package com.aparajita.capacitor.splashscreen;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AppCompatActivity;
+import com.getcapacitor.Bridge;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.PluginConfig;
+import com.getcapacitor.PluginHandle;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+// Makes a plugin attached to a mock bridge, the way Capacitor would
+final class TestPlugins {
+
+  static final String ICON = "abc_vector_test";
+
+  private TestPlugins() {}
+
+  // No minimum show time, so hide() is never waiting on the wall clock
+  @NonNull
+  static JSONObject makeConfig() throws JSONException {
+    JSONObject config = new JSONObject();
+    config.put(Options.SHOW_DURATION, 0);
+    return config;
+  }
+
+  @NonNull
+  static SplashScreen makePlugin(
+    @NonNull AppCompatActivity activity,
+    @NonNull JSONObject config
+  ) {
+    PluginConfig pluginConfig = mock(PluginConfig.class);
+    when(pluginConfig.getConfigJSON()).thenReturn(config);
+
+    Bridge bridge = mock(Bridge.class, RETURNS_DEEP_STUBS);
+    when(bridge.getActivity()).thenReturn(activity);
+    when(bridge.getContext()).thenReturn(activity);
+    when(bridge.getWebView()).thenReturn(new WebView(activity));
+    when(bridge.getConfig().getPluginConfiguration(anyString()))
+      .thenReturn(pluginConfig);
+
+    PluginHandle handle = mock(PluginHandle.class);
+    when(handle.getId()).thenReturn("SplashScreen");
+
+    SplashScreen plugin = new SplashScreen();
+    plugin.setBridge(bridge);
+    plugin.setPluginHandle(handle);
+    return plugin;
+  }
+
+  @NonNull
+  static JSObject makeShowOptions(long delay, long fadeInDuration) {
+    JSObject options = new JSObject();
+    options.put(Options.SOURCE, ICON);
+    options.put(Options.DELAY, delay);
+    options.put(Options.FADE_IN_DURATION, fadeInDuration);
+    options.put(Options.SHOW_DURATION, 0);
+    return options;
+  }
+}
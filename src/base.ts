@@ -5,7 +5,14 @@ import { WebPlugin } from '@capacitor/core'
 import type {
   SplashScreenAnimateOptions,
   SplashScreenAppStateListeners,
+  SplashScreenDeferredTaskCallback,
+  SplashScreenDeferredTaskOptions,
+  SplashScreenDiagnostics,
+  SplashScreenGateOptions,
+  SplashScreenLog,
   SplashScreenPlugin,
+  SplashScreenProgressOptions,
+  SplashScreenResult,
   SplashScreenShowOptions
 } from './definitions'
 
@@ -13,19 +20,61 @@ import type {
 export class SplashScreenBase extends WebPlugin implements SplashScreenPlugin {
   // @native
   // eslint-disable-next-line @typescript-eslint/no-unused-vars
-  async show(options?: SplashScreenShowOptions): Promise<void> {
+  async show(options?: SplashScreenShowOptions): Promise<SplashScreenResult> {
+    return Promise.resolve({ outcome: 'completed' })
+  }
+
+  // @native
+  // eslint-disable-next-line @typescript-eslint/no-unused-vars
+  async hide(options?: SplashScreenShowOptions): Promise<SplashScreenResult> {
+    return Promise.resolve({ outcome: 'completed' })
+  }
+
+  // @native
+  // eslint-disable-next-line @typescript-eslint/no-unused-vars
+  async animate(
+    options?: SplashScreenAnimateOptions
+  ): Promise<SplashScreenResult> {
+    return Promise.resolve({ outcome: 'completed' })
+  }
+
+  // @native
+  // eslint-disable-next-line @typescript-eslint/no-unused-vars
+  async addGate(options: SplashScreenGateOptions): Promise<void> {
     return Promise.resolve()
   }
 
   // @native
   // eslint-disable-next-line @typescript-eslint/no-unused-vars
-  async hide(options?: SplashScreenShowOptions): Promise<void> {
+  async satisfyGate(options: SplashScreenGateOptions): Promise<void> {
     return Promise.resolve()
   }
 
+  // @native
+  async runAfterSplash(
+    options: SplashScreenDeferredTaskOptions,
+    callback: SplashScreenDeferredTaskCallback
+  ): Promise<string> {
+    setTimeout(() => {
+      callback({ name: options.name ?? 'js', waitMs: 0 })
+    }, 0)
+
+    return Promise.resolve('')
+  }
+
+  // @native
+  async getDiagnostics(): Promise<SplashScreenDiagnostics> {
+    return Promise.resolve({})
+  }
+
+  // @native
+  async getLog(): Promise<SplashScreenLog> {
+    return Promise.resolve({ enabled: false, records: [], dropped: 0 })
+  }
+
   // @native
   // eslint-disable-next-line @typescript-eslint/no-unused-vars
-  async animate(options?: SplashScreenAnimateOptions): Promise<void> {
+  async setProgress(options: SplashScreenProgressOptions): Promise<void> {
     return Promise.resolve()
   }
 
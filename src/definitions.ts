@@ -14,6 +14,18 @@ import type {
  */
 export type SplashScreenDuration = number
 
+/**
+ * - `fade`: the splash fades in or out. The fade is driven by the main
+ *   thread, so it stutters if the app keeps the main thread busy.
+ * - `reveal`: a circle centered on the icon grows to uncover the splash,
+ *   or shrinks to remove it. The reveal is driven by the render thread,
+ *   so it stays smooth while the main thread is busy. If the splash is
+ *   not hardware accelerated, or a fade was interrupted, a fade is used.
+ *
+ * The status and navigation bar colors still change on the main thread.
+ */
+export type SplashScreenTransition = 'fade' | 'reveal'
+
 declare module '@capacitor/cli' {
   export interface PluginsConfig {
     // eslint-disable-next-line @typescript-eslint/naming-convention
@@ -47,6 +59,193 @@ declare module '@capacitor/cli' {
        */
       android?: {
         showDuration?: SplashScreenDuration
+
+        /**
+         * The maximum memory in kilobytes the plugin may use to cache splash
+         * assets such as inflated drawables. When the cap is reached, the
+         * least recently used assets are released. Cached assets are also
+         * released in stages when the system reports memory pressure.
+         *
+         * @since 2.1.0
+         * @default 8192
+         */
+        assetBudget?: number
+
+        /**
+         * If true, the plugin records structured diagnostics in an in-memory
+         * ring buffer that can be retrieved with `getLog()`. Diagnostics are
+         * always recorded when `logger.level` is 'debug'. When disabled,
+         * recording does no work at all.
+         *
+         * @since 2.1.0
+         * @default false
+         */
+        diagnostics?: boolean
+
+        /**
+         * At load, the plugin classifies the device and picks an animation
+         * profile:
+         *
+         * - `full`: fades as configured, drawn through a hardware layer.
+         * - `reduced` (low-RAM devices): fades are half as long, no hardware layer.
+         * - `minimal` (battery saver on): no fades.
+         * - `instant` (animator duration scale is 0): no fades, and the launch
+         *   screen is removed immediately.
+         *
+         * Set this to force a profile. The active profile is reported
+         * by `getDiagnostics()` and passed to event handlers as `profile`.
+         *
+         * @since 2.1.0
+         */
+        profile?: SplashScreenProfile
+
+        /**
+         * What to do with the WebView while a programmatic splash covers it:
+         *
+         * - `none`: leave it alone.
+         * - `throttle`: pause the WebView's rendering work (animations,
+         *   `requestAnimationFrame`) once the splash is fully shown, and
+         *   resume it when the splash starts to hide. JavaScript keeps running.
+         * - `preraster`: turn on offscreen pre-rasterization when `hide()` or
+         *   `animate()` is called, so the first revealed frame is already
+         *   rastered.
+         *
+         * The original WebView settings are restored when the splash is removed.
+         *
+         * @since 2.1.0
+         * @default 'none'
+         */
+        webViewPolicy?: 'none' | 'throttle' | 'preraster'
+
+        /**
+         * If true, the launch screen does not wait for `hide()` or `animate()`.
+         * Once `showDuration` has elapsed, it is replaced in the same frame and
+         * without a fade by an identical programmatic splash, which is built
+         * while the launch screen is up. Subsequent calls to `hide()` and
+         * `animate()` operate on the programmatic splash. Use this when the
+         * splash needs to stay up longer than the system allows for the
+         * launch screen.
+         *
+         * @since 2.1.0
+         * @default false
+         */
+        handoff?: boolean
+
+        /**
+         * The launch screen policy for a cold start, when the app's process
+         * has just been started.
+         *
+         * @since 2.1.0
+         */
+        coldStart?: SplashScreenStartPolicy
+
+        /**
+         * The launch screen policy for a warm start, when the app's process
+         * was already running, or the activity is restored from saved state.
+         * To detect restored state, pass `savedInstanceState` to
+         * `SplashScreen.initLaunchTime()`.
+         *
+         * @since 2.1.0
+         */
+        warmStart?: SplashScreenStartPolicy
+
+        /**
+         * The launch screen policy for a hot start, when the plugin was
+         * already loaded in the app's process and only the activity is
+         * being recreated.
+         *
+         * @since 2.1.0
+         */
+        hotStart?: SplashScreenStartPolicy
+
+        /**
+         * How the progress indicator driven by `setProgress()` is drawn:
+         * as a bar below the icon or a ring around it. If `color` is not
+         * a valid color string, a color that contrasts with the splash
+         * background is used.
+         *
+         * @since 2.1.0
+         * @default { style: 'bar' }
+         */
+        progress?: {
+          style?: 'bar' | 'ring'
+          color?: string
+        }
+
+        /**
+         * A hard limit on how long any splash may stay up, whether it is
+         * the launch screen or a programmatic splash. Once it is exceeded,
+         * the splash is removed immediately, even if gates are unsatisfied
+         * or `hide()` was never called, and a `forcedHide` event is sent.
+         * Time spent with the app in the background does not count.
+         * 0 means there is no limit.
+         *
+         * @since 2.1.0
+         * @default 0
+         */
+        maxShowDuration?: SplashScreenDuration
+
+        /**
+         * The default transition for the launch screen exit and for
+         * programmatic splashes. See `SplashScreenTransition`.
+         *
+         * @since 2.1.0
+         * @default 'fade'
+         */
+        transition?: SplashScreenTransition
+
+        /**
+         * If true, the main thread is raised to display priority while
+         * a splash transition runs: the launch screen exit, an animation
+         * hook, and the show and hide fades. The previous priority is
+         * restored when the transition ends. Native background work can
+         * wait for the transition to end with
+         * `SplashScreen.awaitSplashTransition()`, or by running on an
+         * executor wrapped with `SplashScreen.yieldToSplashTransitions()`.
+         *
+         * @since 2.1.0
+         * @default false
+         */
+        boostPriority?: boolean
+
+        /**
+         * When the launch screen exit starts once it has been released:
+         *
+         * - `immediate`: right away, even if the icon animation is still
+         *   running.
+         * - `iconEnd`: on the final frame of the launch icon's animation,
+         *   or right away if the icon is not animated or its animation
+         *   is already over.
+         *
+         * @since 2.1.0
+         * @default 'immediate'
+         */
+        exitTiming?: 'immediate' | 'iconEnd'
+
+        /**
+         * If true, on devices whose display supports a higher refresh rate
+         * than the current one, the fastest display mode at the current
+         * resolution is requested while a splash transition runs, and the
+         * request is withdrawn when it ends. The system may still decide
+         * otherwise, for example in battery saver mode. Android 6+.
+         *
+         * @since 2.1.0
+         * @default false
+         */
+        highRefreshRate?: boolean
+
+        /**
+         * If true, the status and navigation bar colors are not animated
+         * by updating the window on every frame. Instead, each bar is set
+         * to its final color once, and a scrim in the starting color is
+         * drawn over the bar and faded out. This applies to the plugin's
+         * own transitions and to the `showStatusBar`/`showNavigationBar`
+         * functions passed to event handlers. Android 6+.
+         *
+         * @since 2.1.0
+         * @default false
+         */
+        barScrims?: boolean
       }
 
       /**
@@ -65,6 +264,24 @@ declare module '@capacitor/cli' {
   }
 }
 
+export interface SplashScreenStartPolicy {
+  /**
+   * The minimum time the launch screen is shown for this type of start.
+   *
+   * @default The top level `showDuration`
+   */
+  showDuration?: SplashScreenDuration
+
+  /**
+   * If true, the launch screen exits as soon as `showDuration` has elapsed
+   * without waiting for `hide()` or `animate()`. A later call to `hide()`
+   * resolves with the outcome 'coalesced'.
+   *
+   * @default false
+   */
+  autoHide?: boolean
+}
+
 export interface SplashScreenShowOpts {
   /**
    * The source of the splash screen. Does not apply to launch screens.
@@ -74,6 +291,14 @@ export interface SplashScreenShowOpts {
    * on Android the value of the `windowSplashScreenAnimatedIcon` item
    * in the launch theme will be used.
    *
+   * On Android, the source may also be an image file: "file://<path>" for
+   * a file in app storage, where a relative path is relative to the app's
+   * files directory, or "asset://<path>" for a file in the app's assets.
+   * Images are decoded in the background and downsampled to the icon size.
+   * On Android 9+, animated WebP and GIF images play, decoding one frame at
+   * a time. The decode time and memory are reported in the session
+   * diagnostics returned by `getDiagnostics()`.
+   *
    * @since 2.0.0
    * @default '*'
    */
@@ -102,12 +327,41 @@ export interface SplashScreenShowOpts {
    * the screen will remain until the duration is finished.
    *
    * `show()`: How long to show the splash screen after fade in
-   * and before fade out.
+   * and before fade out. On Android, this only applies if `autoHide`
+   * is true, otherwise the splash stays up until `hide()` is called.
    *
    * @since 2.0.0
    * @default 700 (milliseconds)
    */
   showDuration?: SplashScreenDuration
+
+  /**
+   * If true, a programmatic splash hides itself once it has been fully
+   * shown for `showDuration`, fading out over `fadeOutDuration`.
+   * A later call to `hide()` resolves with the outcome 'coalesced'.
+   * Android only.
+   *
+   * @since 2.1.0
+   * @default false
+   */
+  autoHide?: boolean
+
+  /**
+   * With `autoHide`, how long to fade out.
+   *
+   * @since 2.1.0
+   * @default 300 (milliseconds)
+   */
+  fadeOutDuration?: SplashScreenDuration
+
+  /**
+   * How the splash enters the screen over `fadeInDuration`, and with
+   * `autoHide`, how it leaves. See `SplashScreenTransition`. Android only.
+   *
+   * @since 2.1.0
+   * @default The `transition` config option, or 'fade'
+   */
+  transition?: SplashScreenTransition
 }
 
 /**
@@ -134,6 +388,16 @@ export interface SplashScreenHideOpts {
    * @default 300 (milliseconds)
    */
   fadeOutDuration?: SplashScreenDuration
+
+  /**
+   * How the splash leaves the screen, over `fadeOutDuration`.
+   * This also applies to the launch screen when it is hidden.
+   * See `SplashScreenTransition`. Android only.
+   *
+   * @since 2.1.0
+   * @default The `transition` config option, or 'fade'
+   */
+  transition?: SplashScreenTransition
 }
 
 /**
@@ -142,6 +406,15 @@ export interface SplashScreenHideOpts {
 export interface SplashScreenHideOptions extends SplashScreenHideOpts {
   ios?: SplashScreenHideOpts
   android?: SplashScreenHideOpts
+
+  /**
+   * If given, the call is rejected with 'staleSession' unless this is the
+   * ID of the splash that is currently up, as returned in the result of
+   * `show()`. Android only.
+   *
+   * @since 2.1.0
+   */
+  sessionId?: number
 }
 
 export interface SplashScreenAnimateOpts {
@@ -176,6 +449,15 @@ export interface SplashScreenAnimateOpts {
 export interface SplashScreenAnimateOptions extends SplashScreenAnimateOpts {
   ios?: SplashScreenAnimateOpts
   android?: SplashScreenAnimateOpts
+
+  /**
+   * If given, the call is rejected with 'staleSession' unless this is the
+   * ID of the splash that is currently up, as returned in the result of
+   * `show()`. Android only.
+   *
+   * @since 2.1.0
+   */
+  sessionId?: number
 }
 
 export interface SplashScreenAppStateListeners {
@@ -194,6 +476,433 @@ export interface SplashScreenAppStateListeners {
   onResume?: () => void
 }
 
+/**
+ * How a transition actually ended. Calls that arrive while another
+ * transition is in progress are collapsed into the minimal animation:
+ * for example `hide()` during the `show()` delay cancels the show outright,
+ * and `show()` during a fade out fades back in from the current opacity.
+ */
+export type SplashScreenOutcome = 'completed' | 'coalesced' | 'cancelled'
+
+export interface SplashScreenResult {
+  /**
+   * `completed` if the transition ran to the end, `coalesced` if it was
+   * merged with a transition already in progress, `cancelled` if a later
+   * call cancelled it. Android only.
+   *
+   * @since 2.1.0
+   */
+  outcome?: SplashScreenOutcome
+
+  /**
+   * The ID of the splash session the call acted on. Each launch screen
+   * and each call to `show()` starts a new session. Android only.
+   *
+   * @since 2.1.0
+   */
+  sessionId?: number
+}
+
+export interface SplashScreenMemoryDiagnostics {
+  /**
+   * The configured asset budget in bytes.
+   */
+  capBytes: number
+
+  /**
+   * The estimated bytes used by currently cached assets.
+   */
+  usedBytes: number
+
+  /**
+   * The highest value of `usedBytes` seen so far.
+   */
+  peakBytes: number
+
+  /**
+   * The number of currently cached assets.
+   */
+  assets: number
+
+  /**
+   * The number of assets released to stay under the cap
+   * or in response to memory pressure.
+   */
+  evictions: number
+
+  /**
+   * The number of times the system asked the app to trim memory.
+   */
+  trims: number
+
+  /**
+   * The level passed to the most recent `onTrimMemory()`, or 0.
+   */
+  lastTrimLevel: number
+}
+
+export type SplashScreenProfile = 'full' | 'reduced' | 'minimal' | 'instant'
+
+export interface SplashScreenDeviceDiagnostics {
+  /**
+   * The active animation profile.
+   */
+  profile: SplashScreenProfile
+
+  /**
+   * The profile that was detected, which may have been overridden by config.
+   */
+  detected: SplashScreenProfile
+
+  isLowRam: boolean
+  isPowerSave: boolean
+  animatorsEnabled: boolean
+
+  /**
+   * The media performance class, 0 if not declared.
+   */
+  performanceClass: number
+}
+
+export interface SplashScreenGateTiming {
+  /**
+   * The name of the gate.
+   */
+  name: string
+
+  /**
+   * Who added the gate: 'js', 'native', or 'warmup' for native warmup tasks.
+   */
+  origin: 'js' | 'native' | 'warmup'
+
+  /**
+   * Whether the gate has been satisfied.
+   */
+  satisfied: boolean
+
+  /**
+   * True if the gate belongs to a warmup task that threw.
+   */
+  failed: boolean
+
+  /**
+   * Milliseconds from when the gate was added until it was satisfied,
+   * or until now if it is still pending.
+   */
+  durationMs: number
+}
+
+export interface SplashScreenProgressOptions {
+  /**
+   * The progress, from 0 to 1.
+   *
+   * @since 2.1.0
+   */
+  value: number
+}
+
+export interface SplashScreenForcedHideEvent {
+  /**
+   * The session of the splash that was removed.
+   */
+  sessionId: number
+
+  kind: 'launch' | 'show'
+
+  /**
+   * The internal state the splash was stuck in, for diagnosis.
+   */
+  state: string
+
+  /**
+   * How long the splash had been up, not counting time in the background.
+   */
+  elapsedMs: number
+
+  maxShowDuration: number
+}
+
+export interface SplashScreenGateOptions {
+  /**
+   * The name of the gate.
+   *
+   * @since 2.1.0
+   */
+  name: string
+}
+
+export interface SplashScreenDeferredTaskOptions {
+  /**
+   * A name for the task, used in diagnostics.
+   *
+   * @since 2.1.0
+   * @default 'js'
+   */
+  name?: string
+
+  /**
+   * Tasks with a higher priority run first.
+   *
+   * @since 2.1.0
+   * @default 0
+   */
+  priority?: number
+}
+
+export interface SplashScreenDeferredTaskResult {
+  /**
+   * The name of the task.
+   */
+  name: string
+
+  /**
+   * How long the task waited in the queue, in milliseconds.
+   */
+  waitMs: number
+}
+
+export type SplashScreenDeferredTaskCallback = (
+  result: SplashScreenDeferredTaskResult
+) => void
+
+export interface SplashScreenDeferredTaskTiming {
+  name: string
+  priority: number
+
+  /**
+   * Milliseconds between submitting the task and starting it.
+   */
+  waitMs: number
+
+  /**
+   * Milliseconds between the splash being removed and the task starting.
+   */
+  afterSplashMs: number
+
+  /**
+   * How long the native part of the task took to run.
+   */
+  durationMs: number
+
+  /**
+   * True if the task threw.
+   */
+  failed: boolean
+}
+
+export interface SplashScreenDeferredDiagnostics {
+  /**
+   * True while a splash is on screen and deferred work is being held.
+   */
+  held: boolean
+
+  /**
+   * The number of tasks waiting to run.
+   */
+  pending: number
+
+  /**
+   * The most recently completed tasks, oldest first.
+   */
+  completed: SplashScreenDeferredTaskTiming[]
+}
+
+export type SplashScreenStartType = 'cold' | 'warm' | 'hot'
+
+export interface SplashScreenTimingDiagnostics {
+  /**
+   * How the app was started, which selects the launch screen policy.
+   */
+  startType: SplashScreenStartType
+
+  /**
+   * True if `savedInstanceState` was passed to `initLaunchTime()`.
+   */
+  hasSavedState: boolean
+
+  /**
+   * Milliseconds from process start to activity creation,
+   * -1 if unknown (before Android 7).
+   */
+  processAgeMs: number
+
+  /**
+   * The launch screen `showDuration` used for this start, in milliseconds.
+   */
+  showDuration: number
+
+  /**
+   * Whether the launch screen auto-hides for this start.
+   */
+  autoHide: boolean
+
+  /**
+   * Milliseconds the launch screen was on screen after the plugin loaded,
+   * -1 if it has not exited yet.
+   */
+  launchScreenMs: number
+
+  /**
+   * With `exitTiming: 'iconEnd'`, how long the launch screen exit waited for
+   * the icon animation to end. -1 if the exit has not started, or
+   * `exitTiming` is 'immediate'.
+   */
+  iconWaitMs: number
+
+  /**
+   * Milliseconds from the start of the plugin's `load()` until the launch
+   * screen was installed.
+   */
+  loadToInstallMs: number
+
+  /**
+   * Milliseconds from `initLaunchTime()` until the launch screen was
+   * installed, -1 if `initLaunchTime()` was not called.
+   */
+  createToInstallMs: number
+
+  /**
+   * The windows during which the main thread priority was boosted for
+   * a splash transition, if `boostPriority` is enabled.
+   */
+  boost: {
+    enabled: boolean
+    active: boolean
+    windows: number
+    totalMs: number
+    longestMs: number
+
+    /**
+     * The length of the last window, -1 if there has been none.
+     */
+    lastMs: number
+  }
+}
+
+export interface SplashScreenSessionDiagnostics {
+  id: number
+
+  /**
+   * `launch` for the launch screen, `show` for a programmatic splash.
+   */
+  kind: 'launch' | 'show'
+
+  source: string
+
+  /**
+   * When the session was created, in milliseconds since the epoch.
+   */
+  createdAt: number
+
+  /**
+   * The minimum show time in milliseconds, against which hook delays
+   * are measured.
+   */
+  showDuration: number
+
+  /**
+   * Milliseconds from creation until the splash was fully visible, -1 if not yet.
+   */
+  visibleMs: number
+
+  /**
+   * Milliseconds from creation until the splash was removed, -1 if not yet.
+   */
+  durationMs: number
+
+  ended: boolean
+
+  /**
+   * For image sources, how long the decode took, an estimate of the memory
+   * used by the decoded image based on its decoded size, and whether it
+   * is animated.
+   */
+  decode?: {
+    ms: number
+    estimatedPeakBytes: number
+    animated: boolean
+  }
+}
+
+export interface SplashScreenDiagnostics {
+  /**
+   * Memory used by cached splash assets. Android only.
+   *
+   * @since 2.1.0
+   */
+  memory?: SplashScreenMemoryDiagnostics
+
+  /**
+   * The device class and animation profile. Android only.
+   *
+   * @since 2.1.0
+   */
+  device?: SplashScreenDeviceDiagnostics
+
+  /**
+   * Timing of each readiness gate. Android only.
+   *
+   * @since 2.1.0
+   */
+  gates?: SplashScreenGateTiming[]
+
+  /**
+   * The post-splash deferred work queue. Android only.
+   *
+   * @since 2.1.0
+   */
+  deferred?: SplashScreenDeferredDiagnostics
+
+  /**
+   * The start type and the launch screen policy and timing it produced.
+   * Android only.
+   *
+   * @since 2.1.0
+   */
+  timing?: SplashScreenTimingDiagnostics
+
+  /**
+   * The current splash session. Android only.
+   *
+   * @since 2.1.0
+   */
+  session?: SplashScreenSessionDiagnostics
+}
+
+export interface SplashScreenLogRecord {
+  /**
+   * When the record was made, in milliseconds since the epoch.
+   */
+  time: number
+
+  /**
+   * The name of the event that was recorded.
+   */
+  event: string
+
+  /**
+   * A human-readable description of the event.
+   */
+  message: string
+}
+
+export interface SplashScreenLog {
+  /**
+   * Whether diagnostics are being recorded.
+   */
+  enabled: boolean
+
+  /**
+   * The records in the log, oldest first.
+   */
+  records: SplashScreenLogRecord[]
+
+  /**
+   * The number of older records that were overwritten.
+   */
+  dropped: number
+}
+
 /**
  * If a plugin call is rejected, the error will contain a string .code property
  * whose value will be one of these.
@@ -220,6 +929,13 @@ export enum SplashScreenErrorType {
    */
   alreadyActive = 'alreadyActive',
 
+  /**
+   * A required option was missing or invalid.
+   *
+   * @since 2.1.0
+   */
+  invalidOption = 'invalidOption',
+
   /**
    * animate() was called but no animation method could be found in the app.
    *
@@ -230,7 +946,15 @@ export enum SplashScreenErrorType {
   /**
    * animate() was called but the animation method threw an error.
    */
-  animateMethodFailed = 'animateMethodFailed'
+  animateMethodFailed = 'animateMethodFailed',
+
+  /**
+   * hide() or animate() was called with a `sessionId` that is not
+   * the current splash session.
+   *
+   * @since 2.1.0
+   */
+  staleSession = 'staleSession'
 }
 
 /**
@@ -271,15 +995,14 @@ export interface SplashScreenPlugin extends WebPlugin {
   /**
    * Show the splash screen. Does not apply to launch screens.
    *
-   * NOTE: On Android, the size of the splash screen icon may not exactly
-   * match the actual launch screen icon size. I was not able to determine
-   * the algorithm used by Android to determine the size of the splash
-   * screen icon.
+   * NOTE: On Android, the splash screen icon is sized from the current
+   * window metrics using the same geometry as the launch screen
+   * (288dp, or 240dp if the launch theme gives the icon a background).
    *
    * @native
    * @throws {PluginError} See `SplashScreenErrorType` for possible errors
    */
-  show: (options?: SplashScreenShowOptions) => Promise<void>
+  show: (options?: SplashScreenShowOptions) => Promise<SplashScreenResult>
 
   /**
    * Hide the splash screen. You must call `hide()` or `animate()` to
@@ -288,7 +1011,7 @@ export interface SplashScreenPlugin extends WebPlugin {
    * @native
    * @throws {PluginError} See `SplashScreenErrorType` for possible errors
    */
-  hide: (options?: SplashScreenHideOptions) => Promise<void>
+  hide: (options?: SplashScreenHideOptions) => Promise<SplashScreenResult>
 
   /**
    * Animate the splash screen. You must call `hide()` or `animate()` to
@@ -297,7 +1020,91 @@ export interface SplashScreenPlugin extends WebPlugin {
    * @native
    * @throws {PluginError} See `SplashScreenErrorType` for possible errors
    */
-  animate: (options?: SplashScreenAnimateOptions) => Promise<void>
+  animate: (
+    options?: SplashScreenAnimateOptions
+  ) => Promise<SplashScreenResult>
+
+  /**
+   * Add a named readiness gate. While any gate is unsatisfied, the launch
+   * screen stays up, even if `hide()` or `animate()` has been called.
+   * Once at least one gate exists, the launch screen is released
+   * automatically when every gate is satisfied and `showDuration` has
+   * elapsed. Native code may add gates and submit warmup tasks with
+   * `SplashScreen.addReadinessGate()` and `SplashScreen.submitWarmupTask()`.
+   * Gates only apply to the launch screen that is up when they are added,
+   * or to the next one if none is. Adding a gate with the name of one from
+   * an earlier launch replaces it. Android only.
+   *
+   * @since 2.1.0
+   */
+  addGate: (options: SplashScreenGateOptions) => Promise<void>
+
+  /**
+   * Satisfy a readiness gate added with `addGate()`.
+   * Android only.
+   *
+   * @since 2.1.0
+   * @throws {PluginError} 'invalidOption' if there is no such gate
+   */
+  satisfyGate: (options: SplashScreenGateOptions) => Promise<void>
+
+  /**
+   * Defer work until the splash has been fully removed, so it does not
+   * compete with the splash exit animation. `callback` is called once,
+   * when the main thread is idle after the splash is gone. Tasks with a
+   * higher priority are called first. Native code may defer work with
+   * `SplashScreen.runAfterSplash()`. On other platforms, `callback` is
+   * called on the next tick.
+   *
+   * @since 2.1.0
+   */
+  runAfterSplash: (
+    options: SplashScreenDeferredTaskOptions,
+    callback: SplashScreenDeferredTaskCallback
+  ) => Promise<string>
+
+  /**
+   * Get diagnostic information about the plugin's internal state.
+   * Android only, on other platforms an empty object is returned.
+   *
+   * @since 2.1.0
+   */
+  getDiagnostics: () => Promise<SplashScreenDiagnostics>
+
+  /**
+   * Get the contents of the diagnostics log. Records are only formatted
+   * when this is called. Android only, on other platforms an empty log
+   * is returned.
+   *
+   * @since 2.1.0
+   */
+  getLog: () => Promise<SplashScreenLog>
+
+  /**
+   * Set the progress shown on the programmatic splash. The progress
+   * indicator is added the first time this is called, and it is reset
+   * when the splash is removed. Progress set while the launch screen is up
+   * appears if the launch screen hands off to a programmatic splash.
+   *
+   * This may be called at any rate: calls made within the same frame
+   * are sent to native code as one, and native code applies only
+   * the latest value, once per display frame. Android only, on other
+   * platforms this does nothing.
+   *
+   * @since 2.1.0
+   */
+  setProgress: (options: SplashScreenProgressOptions) => Promise<void>
+
+  /**
+   * Listen for the `maxShowDuration` failsafe removing a splash that
+   * stayed up too long. Android only.
+   *
+   * @since 2.1.0
+   */
+  addListener: (
+    eventName: 'forcedHide',
+    listener: (event: SplashScreenForcedHideEvent) => void
+  ) => Promise<PluginListenerHandle>
 
   /**
    * Listen to changes in the app state and execute
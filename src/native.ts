@@ -1,12 +1,54 @@
+import { Capacitor } from '@capacitor/core'
 import { SplashScreenBase } from './base'
-import type { SplashScreenPlugin } from './definitions'
+import type {
+  SplashScreenPlugin,
+  SplashScreenProgressOptions
+} from './definitions'
+
+// requestAnimationFrame() stops while the WebView is throttled behind
+// the splash, so progress is batched with a one frame timer instead.
+const kProgressBatchMs = 16
 
 // eslint-disable-next-line import/prefer-default-export
 export class SplashScreen extends SplashScreenBase {
+  private pendingProgress?: Promise<void>
+  private latestProgress = 0
+
   constructor(capProxy: SplashScreenPlugin) {
     super()
     this.show = capProxy.show
     this.hide = capProxy.hide
     this.animate = capProxy.animate
+
+    // The rest is only implemented natively on Android,
+    // elsewhere the base class fallbacks are used.
+    if (Capacitor.getPlatform() === 'android') {
+      this.addGate = capProxy.addGate
+      this.satisfyGate = capProxy.satisfyGate
+      this.runAfterSplash = capProxy.runAfterSplash
+      this.getDiagnostics = capProxy.getDiagnostics
+      this.getLog = capProxy.getLog
+
+      // Only the latest value in each frame crosses the bridge
+      this.setProgress = async (
+        options: SplashScreenProgressOptions
+      ): Promise<void> => {
+        this.latestProgress = options.value
+
+        if (!this.pendingProgress) {
+          this.pendingProgress = new Promise((resolve, reject) => {
+            setTimeout(() => {
+              this.pendingProgress = undefined
+              capProxy
+                .setProgress({ value: this.latestProgress })
+                .then(resolve)
+                .catch(reject)
+            }, kProgressBatchMs)
+          })
+        }
+
+        return this.pendingProgress
+      }
+    }
   }
 }